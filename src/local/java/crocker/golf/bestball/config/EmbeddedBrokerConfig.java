@@ -0,0 +1,28 @@
+package crocker.golf.bestball.config;
+
+import org.apache.activemq.artemis.core.config.impl.ConfigurationImpl;
+import org.apache.activemq.artemis.core.server.embedded.EmbeddedActiveMQ;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// an in process STOMP broker for running the broker relay locally and in CI without installing one. it and artemis are
+// only built by the local profile, staging and production jars have neither
+@Configuration
+@ConditionalOnProperty(value = "golf.websocket.relay.embedded", havingValue = "true")
+public class EmbeddedBrokerConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public EmbeddedActiveMQ embeddedBroker(@Value("${golf.websocket.relay.port}") int port) throws Exception {
+        ConfigurationImpl configuration = new ConfigurationImpl();
+        configuration.setPersistenceEnabled(false)
+                .setSecurityEnabled(false)
+                .addAcceptorConfiguration("stomp", "tcp://localhost:" + port + "?protocols=STOMP");
+
+        EmbeddedActiveMQ embeddedBroker = new EmbeddedActiveMQ();
+        embeddedBroker.setConfiguration(configuration);
+
+        return embeddedBroker;
+    }
+}
@@ -1,15 +1,21 @@
 package crocker.golf.bestball.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import crocker.golf.bestball.core.dao.*;
 import crocker.golf.bestball.core.dao.postgresql.GameDaoImpl;
 import crocker.golf.bestball.core.dao.postgresql.TeamDaoImpl;
 import crocker.golf.bestball.core.draft.DraftManager;
+import crocker.golf.bestball.core.draft.DraftRoomEngine;
 import crocker.golf.bestball.core.mapper.user.UserMapper;
+import crocker.golf.bestball.core.repository.ArchiveRepository;
 import crocker.golf.bestball.core.repository.DraftRepository;
+import crocker.golf.bestball.core.repository.GameCacheInvalidator;
 import crocker.golf.bestball.core.repository.GameRepository;
 import crocker.golf.bestball.core.repository.PgaRepository;
 import crocker.golf.bestball.core.rest.SportsApiService;
+import crocker.golf.bestball.core.scheduler.ArchiveScheduler;
 import crocker.golf.bestball.core.scheduler.GameUpdateScheduler;
+import crocker.golf.bestball.core.scheduler.PartitionScheduler;
 import crocker.golf.bestball.core.scheduler.PgaUpdateScheduler;
 import crocker.golf.bestball.core.repository.UserRepository;
 import crocker.golf.bestball.core.service.game.*;
@@ -19,10 +25,14 @@ import crocker.golf.bestball.core.service.user.EmailService;
 import crocker.golf.bestball.core.service.user.RegistrationEventListener;
 import crocker.golf.bestball.core.service.user.UserRegistrationValidator;
 import crocker.golf.bestball.core.service.user.UserService;
+import crocker.golf.bestball.core.util.ViewSerializer;
+import crocker.golf.bestball.domain.enums.game.DraftStyle;
 import crocker.golf.bestball.domain.game.draft.Draft;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
@@ -32,7 +42,7 @@ import org.springframework.mail.javamail.JavaMailSenderImpl;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 @Configuration
-@Import({DatabaseConfig.class, RestConfig.class, DraftConfig.class, WebSocketConfig.class})
+@Import({DatabaseConfig.class, CacheConfig.class, RestConfig.class, DraftConfig.class, WebSocketConfig.class})
 @PropertySource(value = {"classpath:application.yaml"}, ignoreResourceNotFound = true)
 public class BestballConfig {
     private static final Logger logger = LoggerFactory.getLogger(BestballConfig.class);
@@ -73,13 +83,37 @@ public class BestballConfig {
     }
 
     @Bean
-    public GameCreatorService gameService(GameValidator gameValidator, GameRepository gameRepository, UserRepository userRepository, PgaRepository pgaRepository, DraftManager draftManager) {
-        return new GameCreatorService(gameValidator, gameRepository, userRepository, pgaRepository, draftManager);
+    public GameCreatorService gameService(GameValidator gameValidator, GameRepository gameRepository, UserRepository userRepository, PgaRepository pgaRepository, DraftManager draftManager,
+                                          @Value("${golf.draft.order.style}") DraftStyle draftStyle, @Value("${golf.draft.order.rounds}") int draftRounds) {
+        return new GameCreatorService(gameValidator, gameRepository, userRepository, pgaRepository, draftManager, draftStyle, draftRounds);
     }
 
     @Bean
-    public GameManagerService gameManagerService(GameRepository gameRepository, DraftRepository draftRepository, UserRepository userRepository, PgaRepository pgaRepository, UserService userService) {
-        return new GameManagerService(gameRepository, draftRepository, userRepository, pgaRepository, userService);
+    public GameManagerService gameManagerService(GameRepository gameRepository, DraftRepository draftRepository, UserRepository userRepository, PgaRepository pgaRepository, GameViewStore gameViewStore, TeamScoreWriter teamScoreWriter) {
+        return new GameManagerService(gameRepository, draftRepository, userRepository, pgaRepository, gameViewStore, teamScoreWriter);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public TeamScoreWriter teamScoreWriter(GameRepository gameRepository, GameViewStore gameViewStore, @Value("${golf.score.writer.capacity}") int capacity,
+                                           @Value("${golf.score.writer.flush}") long flushIntervalMillis) {
+        return new TeamScoreWriter(gameRepository, gameViewStore, capacity, flushIntervalMillis);
+    }
+
+    @Bean
+    public GameViewStore gameViewStore(GameRepository gameRepository, GameLoader gameLoader, ViewSerializer viewSerializer) {
+        return new GameViewStore(gameRepository, gameLoader, viewSerializer);
+    }
+
+    @Bean
+    public CacheWarmer cacheWarmer(GameRepository gameRepository, PgaRepository pgaRepository, GameViewStore gameViewStore,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${golf.cache.warmup.threads}") int threads, @Value("${golf.cache.warmup.timeout}") long timeoutMillis) {
+        return new CacheWarmer(gameRepository, pgaRepository, gameViewStore, eventPublisher, threads, timeoutMillis);
+    }
+
+    @Bean
+    public GameLoader gameLoader(GameRepository gameRepository, PgaRepository pgaRepository) {
+        return new GameLoader(gameRepository, pgaRepository);
     }
 
     @Bean
@@ -92,6 +126,22 @@ public class BestballConfig {
         return new GameUpdateScheduler(gameManagerService);
     }
 
+    @Bean
+    public ArchiveScheduler archiveScheduler(ArchiveService archiveService) {
+        return new ArchiveScheduler(archiveService);
+    }
+
+    @Bean
+    public ArchiveService archiveService(ArchiveRepository archiveRepository, @Value("${golf.archive.batch.size}") int batchSize,
+                                         @Value("${golf.archive.batch.max}") int maxBatches) {
+        return new ArchiveService(archiveRepository, batchSize, maxBatches);
+    }
+
+    @Bean(initMethod = "createSeasonPartitions")
+    public PartitionScheduler partitionScheduler(PartitionDao partitionDao) {
+        return new PartitionScheduler(partitionDao);
+    }
+
     @Bean
     public PgaUpdateScheduler pgaUpdateScheduler(PgaUpdateService pgaUpdateService) {
         return new PgaUpdateScheduler(pgaUpdateService);
@@ -103,18 +153,29 @@ public class BestballConfig {
     }
 
     @Bean
-    public PgaInfoService pgaInfoService(PgaRepository pgaRepository) {
-        return new PgaInfoService(pgaRepository);
+    public PgaInfoService pgaInfoService(PgaRepository pgaRepository, ViewSerializer viewSerializer) {
+        return new PgaInfoService(pgaRepository, viewSerializer);
     }
 
     @Bean
-    public DraftService draftService(DraftRepository draftRepository, GameRepository gameRepository, UserRepository userRepository, PgaRepository pgaRepository, UserService userService) {
-        return new DraftService(draftRepository, userRepository, gameRepository, pgaRepository, userService);
+    public ViewSerializer viewSerializer(ObjectMapper objectMapper) {
+        return new ViewSerializer(objectMapper);
     }
 
     @Bean
-    public InfoService infoService(DraftRepository draftRepository, GameRepository gameRepository, UserRepository userRepository) {
-        return new InfoService(draftRepository, gameRepository, userRepository);
+    public DraftService draftService(DraftRepository draftRepository, UserRepository userRepository, DraftLoader draftLoader, DraftRoomEngine draftRoomEngine) {
+        return new DraftService(draftRepository, userRepository, draftLoader, draftRoomEngine);
+    }
+
+    @Bean
+    public DraftLoader draftLoader(DraftRepository draftRepository, GameRepository gameRepository, UserService userService) {
+        return new DraftLoader(draftRepository, gameRepository, userService);
+    }
+
+    @Bean
+    public InfoService infoService(DraftRepository draftRepository, GameRepository gameRepository, UserRepository userRepository,
+                                   GameViewStore gameViewStore, ViewSerializer viewSerializer) {
+        return new InfoService(draftRepository, gameRepository, userRepository, gameViewStore, viewSerializer);
     }
 
     @Bean
@@ -128,9 +189,17 @@ public class BestballConfig {
     }
 
     @Bean
-    public GameRepository gameRepository(GameDao gameDao, TeamDao teamDao) { return new GameRepository(gameDao, teamDao); }
+    public GameRepository gameRepository(GameDao gameDao, TeamDao teamDao, GameAggregateDao gameAggregateDao, GameCacheInvalidator gameCacheInvalidator) {
+        return new GameRepository(gameDao, teamDao, gameAggregateDao, gameCacheInvalidator);
+    }
+
+    @Bean
+    public GameCacheInvalidator gameCacheInvalidator(CacheManager cacheManager) { return new GameCacheInvalidator(cacheManager); }
 
     @Bean
     public DraftRepository draftRepository(DraftDao draftDao) { return new DraftRepository(draftDao); }
 
+    @Bean
+    public ArchiveRepository archiveRepository(ArchiveDao archiveDao) { return new ArchiveRepository(archiveDao); }
+
 }
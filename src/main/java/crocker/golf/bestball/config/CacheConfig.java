@@ -0,0 +1,89 @@
+package crocker.golf.bestball.config;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.CaffeineSpec;
+import crocker.golf.bestball.core.dao.CacheNotificationDao;
+import crocker.golf.bestball.core.dao.PgaDao;
+import crocker.golf.bestball.core.repository.CacheInvalidationBus;
+import crocker.golf.bestball.core.repository.ClusterCacheManager;
+import crocker.golf.bestball.core.scheduler.CacheStatsScheduler;
+import crocker.golf.bestball.domain.pga.PgaPlayer;
+import crocker.golf.bestball.domain.pga.tournament.TournamentIndex;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+@Configuration
+public class CacheConfig {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheConfig.class);
+
+    private static final List<String> CACHE_NAMES = Arrays.asList(
+            "worldRankings", "worldRankingsById", "tournamentsBySeason", "upcomingTournaments", "tournamentById", "allTournaments",
+            "tournamentIndex", "tournamentField", "tournamentCourses", "tournamentRounds", "playerRoundsByTournamentId",
+            "gameByGameId", "gameByDraftId", "gameViewByGameId", "teamsByUserId", "teamsByDraftId", "teamsByTournamentId",
+            "teamRoundsByGameId", "draftByDraftId", "draftOrderByDraftId", "draftPoolByTournamentId",
+            "draftedPlayersByDraftId");
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public ClusterCacheManager cacheManager(Environment environment, PgaDao pgaDao, CacheNotificationDao cacheNotificationDao) {
+        Map<String, CacheLoader<Object, Object>> loaders = getCacheLoaders(pgaDao);
+        String defaultSpec = environment.getRequiredProperty("golf.cache.default-spec");
+
+        List<CaffeineCache> caches = CACHE_NAMES.stream().map(name -> {
+            String spec = environment.getProperty("golf.cache.specs." + name, defaultSpec);
+            logger.info("Configuring cache {} with {}", name, spec);
+
+            Caffeine<Object, Object> caffeine = Caffeine.from(CaffeineSpec.parse(spec)).recordStats();
+            CacheLoader<Object, Object> loader = loaders.get(name);
+
+            // refreshAfterWrite needs a loader, only caches whose source can be read back by key get one
+            Cache<Object, Object> cache = loader != null ? caffeine.build(loader) : caffeine.build();
+            return new CaffeineCache(name, cache);
+        }).collect(Collectors.toList());
+
+        SimpleCacheManager localCacheManager = new SimpleCacheManager();
+        localCacheManager.setCaches(caches);
+        localCacheManager.initializeCaches();
+
+        // evictions made on this node are broadcast so every other node drops its copy too
+        long flushIntervalMillis = environment.getRequiredProperty("golf.cache.bus.flush", Long.class);
+        CacheInvalidationBus cacheInvalidationBus = new CacheInvalidationBus(cacheNotificationDao, flushIntervalMillis);
+
+        return new ClusterCacheManager(localCacheManager, cacheInvalidationBus);
+    }
+
+    @Bean
+    public CacheStatsScheduler cacheStatsScheduler(CacheManager cacheManager) {
+        return new CacheStatsScheduler(cacheManager);
+    }
+
+    private Map<String, CacheLoader<Object, Object>> getCacheLoaders(PgaDao pgaDao) {
+        Map<String, CacheLoader<Object, Object>> loaders = new HashMap<>();
+
+        // reloaded values are shared the same way as the ones the repositories cache, so they are read only too
+        loaders.put("worldRankings", key -> Collections.unmodifiableList(pgaDao.getWorldRankings()));
+        loaders.put("worldRankingsById", key -> Collections.unmodifiableMap(pgaDao.getWorldRankings().stream()
+                .collect(Collectors.toMap(PgaPlayer::getPlayerId, pgaPlayer -> pgaPlayer))));
+        loaders.put("allTournaments", key -> Collections.unmodifiableList(pgaDao.getAllTournamentSchedules()));
+        loaders.put("tournamentById", key -> pgaDao.getTournamentScheduleById((UUID) key));
+        loaders.put("tournamentIndex", key -> new TournamentIndex(pgaDao.getAllTournamentSchedules()));
+
+        return loaders;
+    }
+}
@@ -1,8 +1,12 @@
 package crocker.golf.bestball.config;
 
 import crocker.golf.bestball.core.dao.*;
+import crocker.golf.bestball.core.dao.postgresql.ArchiveDaoImpl;
+import crocker.golf.bestball.core.dao.postgresql.CacheNotificationDaoImpl;
 import crocker.golf.bestball.core.dao.postgresql.DraftDaoImpl;
+import crocker.golf.bestball.core.dao.postgresql.GameAggregateDaoImpl;
 import crocker.golf.bestball.core.dao.postgresql.GameDaoImpl;
+import crocker.golf.bestball.core.dao.postgresql.PartitionDaoImpl;
 import crocker.golf.bestball.core.dao.postgresql.PgaDaoImpl;
 import crocker.golf.bestball.core.dao.postgresql.TeamDaoImpl;
 import crocker.golf.bestball.core.mapper.game.TeamRowMapper;
@@ -88,6 +92,18 @@ public class DatabaseConfig {
     @Bean
     public TeamDao teamDao(NamedParameterJdbcTemplate namedParameterJdbcTemplate, TeamRowMapper teamRowMapper) { return new TeamDaoImpl(namedParameterJdbcTemplate, teamRowMapper); }
 
+    @Bean
+    public GameAggregateDao gameAggregateDao(NamedParameterJdbcTemplate namedParameterJdbcTemplate, TeamRowMapper teamRowMapper) { return new GameAggregateDaoImpl(namedParameterJdbcTemplate, teamRowMapper); }
+
+    @Bean
+    public ArchiveDao archiveDao(NamedParameterJdbcTemplate namedParameterJdbcTemplate) { return new ArchiveDaoImpl(namedParameterJdbcTemplate); }
+
+    @Bean
+    public PartitionDao partitionDao(NamedParameterJdbcTemplate namedParameterJdbcTemplate) { return new PartitionDaoImpl(namedParameterJdbcTemplate); }
+
+    @Bean
+    public CacheNotificationDao cacheNotificationDao(NamedParameterJdbcTemplate namedParameterJdbcTemplate, DataSource dataSource) { return new CacheNotificationDaoImpl(namedParameterJdbcTemplate, dataSource); }
+
     @Bean
     public TeamRowMapper teamRowMapper(PgaRepository pgaRepository) {
         return new TeamRowMapper(pgaRepository);
@@ -1,8 +1,12 @@
 package crocker.golf.bestball.config;
 
 import crocker.golf.bestball.core.dao.*;
+import crocker.golf.bestball.core.dao.h2.H2ArchiveDaoImpl;
+import crocker.golf.bestball.core.dao.h2.H2CacheNotificationDaoImpl;
 import crocker.golf.bestball.core.dao.h2.H2DraftDaoImpl;
+import crocker.golf.bestball.core.dao.h2.H2GameAggregateDaoImpl;
 import crocker.golf.bestball.core.dao.h2.H2GameDaoImpl;
+import crocker.golf.bestball.core.dao.h2.H2PartitionDaoImpl;
 import crocker.golf.bestball.core.dao.h2.H2PgaDaoImpl;
 import crocker.golf.bestball.core.dao.h2.H2TeamDaoImpl;
 import crocker.golf.bestball.core.dao.postgresql.GameDaoImpl;
@@ -62,6 +66,18 @@ public class DatabaseLocalConfig {
     @Bean
     public TeamDao teamDao(NamedParameterJdbcTemplate namedParameterJdbcTemplate, TeamRowMapper teamRowMapper) { return new H2TeamDaoImpl(namedParameterJdbcTemplate, teamRowMapper); }
 
+    @Bean
+    public GameAggregateDao gameAggregateDao(NamedParameterJdbcTemplate namedParameterJdbcTemplate, TeamRowMapper teamRowMapper) { return new H2GameAggregateDaoImpl(namedParameterJdbcTemplate, teamRowMapper); }
+
+    @Bean
+    public ArchiveDao archiveDao(NamedParameterJdbcTemplate namedParameterJdbcTemplate) { return new H2ArchiveDaoImpl(namedParameterJdbcTemplate); }
+
+    @Bean
+    public PartitionDao partitionDao(NamedParameterJdbcTemplate namedParameterJdbcTemplate) { return new H2PartitionDaoImpl(namedParameterJdbcTemplate); }
+
+    @Bean
+    public CacheNotificationDao cacheNotificationDao(NamedParameterJdbcTemplate namedParameterJdbcTemplate) { return new H2CacheNotificationDaoImpl(namedParameterJdbcTemplate); }
+
     @Bean
     public TeamRowMapper teamRowMapper(PgaRepository pgaRepository) {
         return new TeamRowMapper(pgaRepository);
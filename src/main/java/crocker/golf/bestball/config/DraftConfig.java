@@ -1,16 +1,22 @@
 package crocker.golf.bestball.config;
 
+import crocker.golf.bestball.core.draft.DraftEventPublisher;
 import crocker.golf.bestball.core.draft.DraftExecutor;
 import crocker.golf.bestball.core.draft.DraftManager;
+import crocker.golf.bestball.core.draft.DraftProjector;
+import crocker.golf.bestball.core.draft.DraftRoomEngine;
 import crocker.golf.bestball.core.draft.DraftScheduler;
 import crocker.golf.bestball.core.draft.DraftTasklet;
 import crocker.golf.bestball.core.repository.DraftRepository;
 import crocker.golf.bestball.core.repository.GameRepository;
 import crocker.golf.bestball.core.repository.PgaRepository;
 import crocker.golf.bestball.core.repository.UserRepository;
+import crocker.golf.bestball.core.service.game.DraftLoader;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
@@ -29,13 +35,40 @@ public class DraftConfig {
     }
 
     @Bean
-    public DraftExecutor draftExecutor(DraftScheduler draftScheduler, DraftRepository draftRepository, GameRepository gameRepository, PgaRepository pgaRepository, UserRepository userRepository) {
-        return new DraftExecutor(draftScheduler, draftRepository, gameRepository, pgaRepository, userRepository);
+    public DraftExecutor draftExecutor(DraftRepository draftRepository, GameRepository gameRepository, PgaRepository pgaRepository, UserRepository userRepository,
+                                       DraftLoader draftLoader, DraftRoomEngine draftRoomEngine) {
+        return new DraftExecutor(draftRepository, gameRepository, pgaRepository, userRepository, draftLoader, draftRoomEngine);
     }
 
-    @Bean(initMethod = "warmUpDraftSchedules")
-    public DraftScheduler draftScheduler(TaskScheduler draftTaskScheduler, DraftRepository draftRepository) {
-        return new DraftScheduler(draftTaskScheduler, draftRepository);
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public DraftRoomEngine draftRoomEngine(DraftLoader draftLoader, DraftRepository draftRepository, GameRepository gameRepository, PgaRepository pgaRepository,
+                                           DraftEventPublisher draftEventPublisher, DraftProjector draftProjector,
+                                           @Value("${golf.draft.room.shards}") int shards,
+                                           @Value("${golf.draft.pick.clock}") long pickClockMillis,
+                                           @Value("${golf.draft.pick.tick}") long tickMillis,
+                                           @Value("${golf.draft.pick.requests}") int requestWindow) {
+        return new DraftRoomEngine(draftLoader, draftRepository, gameRepository, pgaRepository, draftEventPublisher, draftProjector, shards, pickClockMillis,
+                tickMillis, requestWindow);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public DraftProjector draftProjector(DraftRepository draftRepository, GameRepository gameRepository,
+                                         @Value("${golf.draft.room.writers}") int writers) {
+        return new DraftProjector(draftRepository, gameRepository, writers);
+    }
+
+    @Bean
+    public DraftEventPublisher draftEventPublisher(SimpMessageSendingOperations messagingTemplate, @Value("${golf.websocket.binary.enabled}") boolean binaryEnabled) {
+        return new DraftEventPublisher(messagingTemplate, binaryEnabled);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public DraftScheduler draftScheduler(TaskScheduler draftTaskScheduler, DraftRepository draftRepository,
+                                         @Value("${golf.draft.schedule.workers}") int workers,
+                                         @Value("${golf.draft.schedule.poll}") long pollMillis,
+                                         @Value("${golf.draft.schedule.lease}") long leaseMillis,
+                                         @Value("${golf.draft.schedule.prepare}") long prepareMillis) {
+        return new DraftScheduler(draftTaskScheduler, draftRepository, workers, pollMillis, leaseMillis, prepareMillis);
     }
 
     @Bean
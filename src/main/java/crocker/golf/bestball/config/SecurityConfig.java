@@ -6,6 +6,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -29,17 +30,25 @@ public class SecurityConfig extends WebSecurityConfigurerAdapter {
         http.headers().frameOptions().sameOrigin();
         //.csrfTokenRepository(CookieCsrfTokenRepository.withHttpOnlyFalse())
         http
-            .cors().configurationSource(request -> new CorsConfiguration().applyPermitDefaultValues())
+            .cors().configurationSource(request -> corsConfiguration())
             .and()
             .csrf().disable()
             .authorizeRequests()
             .antMatchers("/v2/api-docs", "/configuration/ui", "/configuration/security", "/webjars/**", "/swagger-resources/**", "/swagger-ui.html", "/swagger-ui.html/**", "/swagger-ui/**").permitAll()
             .antMatchers("/api/user/register/**", "/h2-console/**").permitAll()
+            .antMatchers("/actuator/health", "/actuator/health/**").permitAll()
             .antMatchers("/draft", "/draft/**", "/connect/draft").permitAll()
             .anyRequest().authenticated()
             .and().httpBasic();
     }
 
+    // polling clients read the ETag back to send it as If-None-Match on their next request
+    private CorsConfiguration corsConfiguration() {
+        CorsConfiguration corsConfiguration = new CorsConfiguration().applyPermitDefaultValues();
+        corsConfiguration.addExposedHeader(HttpHeaders.ETAG);
+        return corsConfiguration;
+    }
+
     @Bean
     public AuthenticationProvider daoAuthenticationProvider(PasswordEncoder passwordEncoder, UserService userService) {
         DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
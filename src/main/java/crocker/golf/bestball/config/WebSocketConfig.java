@@ -2,12 +2,20 @@ package crocker.golf.bestball.config;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
-import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketExtension;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import java.util.List;
+import java.util.stream.Collectors;
 
 @Configuration
 @EnableWebSocketMessageBroker
@@ -15,15 +23,105 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
     private static final Logger logger = LoggerFactory.getLogger(WebSocketConfig.class);
 
+    @Value("${golf.websocket.relay.enabled}")
+    private boolean relayEnabled;
+
+    @Value("${golf.websocket.relay.host}")
+    private String relayHost;
+
+    @Value("${golf.websocket.relay.port}")
+    private int relayPort;
+
+    @Value("${golf.websocket.relay.login}")
+    private String relayLogin;
+
+    @Value("${golf.websocket.relay.passcode}")
+    private String relayPasscode;
+
+    @Value("${golf.websocket.compression.enabled}")
+    private boolean compressionEnabled;
+
+    @Value("${golf.websocket.heartbeat.send}")
+    private long heartbeatSend;
+
+    @Value("${golf.websocket.heartbeat.receive}")
+    private long heartbeatReceive;
+
+    @Value("${golf.websocket.inbound.threads}")
+    private int inboundThreads;
+
+    @Value("${golf.websocket.outbound.threads}")
+    private int outboundThreads;
+
+    @Value("${golf.websocket.session.buffer}")
+    private int sendBufferSizeLimit;
+
+    @Value("${golf.websocket.session.timeout}")
+    private int sendTimeLimit;
+
+    @Value("${golf.websocket.session.message}")
+    private int messageSizeLimit;
+
     @Override
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/connect/draft")
+                .setHandshakeHandler(new CompressionHandshakeHandler())
                 .setAllowedOrigins("*");
     }
 
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/ui");
+        if (relayEnabled) {
+            // every node relays through the same broker, so a pick made on one node reaches subscribers on all of them
+            logger.info("Relaying draft messages through STOMP broker at {}:{}", relayHost, relayPort);
+            registry.enableStompBrokerRelay("/ui")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode)
+                    .setSystemHeartbeatSendInterval(heartbeatSend)
+                    .setSystemHeartbeatReceiveInterval(heartbeatReceive)
+                    .setUserDestinationBroadcast("/ui/unresolved-user")
+                    .setUserRegistryBroadcast("/ui/user-registry");
+        } else {
+            registry.enableSimpleBroker("/ui");
+        }
         registry.setApplicationDestinationPrefixes("/draft");
     }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(inboundThreads)
+                .maxPoolSize(inboundThreads);
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.taskExecutor()
+                .corePoolSize(outboundThreads)
+                .maxPoolSize(outboundThreads);
+    }
+
+    // a session that falls this far behind is closed rather than left to hold pick events in memory
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendBufferSizeLimit(sendBufferSizeLimit)
+                .setSendTimeLimit(sendTimeLimit)
+                .setMessageSizeLimit(messageSizeLimit);
+    }
+
+    // tomcat offers permessage-deflate to any client that asks for it, this only lets it be switched off
+    private class CompressionHandshakeHandler extends DefaultHandshakeHandler {
+
+        @Override
+        protected List<WebSocketExtension> filterRequestedExtensions(ServerHttpRequest request, List<WebSocketExtension> requested,
+                                                                     List<WebSocketExtension> supported) {
+            return super.filterRequestedExtensions(request, requested, supported).stream()
+                    .filter(extension -> compressionEnabled || !"permessage-deflate".equals(extension.getName()))
+                    .collect(Collectors.toList());
+        }
+    }
 }
@@ -9,7 +9,10 @@ public class WebSocketSecurityConfig extends AbstractSecurityWebSocketMessageBro
 
     @Override
     protected void configureInbound(MessageSecurityMetadataSourceRegistry registry) {
-        registry.anyMessage().permitAll()
+        // the relay broadcasts user sessions and unresolved user messages between nodes on these, clients may neither
+        // subscribe nor send to them. checked before the catch all, the first matching rule wins
+        registry.simpDestMatchers("/ui/unresolved-user", "/ui/unresolved-user/**", "/ui/user-registry", "/ui/user-registry/**").denyAll()
+                .anyMessage().permitAll()
                 .nullDestMatcher().permitAll();
     }
 
@@ -2,16 +2,22 @@ package crocker.golf.bestball.core.controllers;
 
 import crocker.golf.bestball.core.service.game.DraftService;
 import crocker.golf.bestball.domain.game.draft.Draft;
+import crocker.golf.bestball.domain.exceptions.game.DraftRequestRejectedException;
+import crocker.golf.bestball.domain.game.draft.DraftPickEvent;
+import crocker.golf.bestball.domain.game.draft.DraftRejection;
 import crocker.golf.bestball.domain.user.RequestDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
-import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.annotation.SendToUser;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class DraftController {
@@ -26,20 +32,47 @@ public class DraftController {
        // forceDraft();
     }
 
+    // the full draft only goes to the session that joined, everyone else already has it and follows the pick events
     @MessageMapping("/loadDraft/{draftId}")
-    @SendTo("/ui/refreshDraft/{draftId}")
-    public Draft loadDraft(@RequestBody RequestDto requestDto, @DestinationVariable String draftId) {
+    @SendToUser(destinations = "/ui/draftSnapshot/{draftId}", broadcast = false)
+    public CompletableFuture<Draft> loadDraft(@RequestBody RequestDto requestDto, @DestinationVariable String draftId) {
         logger.info("Received request from {} to load draft {}", requestDto.getEmail(), draftId);
         return draftService.loadDraft(requestDto);
     }
 
+    // accepted picks are broadcast by the draft room itself, alongside the ones made by the pick clock. the sender also
+    // gets its pick back, a retry with the same request id gets the original pick rather than making another.
+    // a pick that is not taken is answered on /ui/draftRejected instead
     @MessageMapping("/draftPlayer/{draftId}/{playerId}")
-    @SendTo("/ui/refreshDraft/{draftId}")
-    public Draft draftPlayer(@RequestBody RequestDto requestDto, @DestinationVariable String draftId, @DestinationVariable String playerId) {
-        logger.info("Received request from {} to draft player {} for draft {}", requestDto.getEmail(), playerId, draftId);
+    @SendToUser(destinations = "/ui/draftPick/{draftId}", broadcast = false)
+    public CompletableFuture<DraftPickEvent> draftPlayer(@RequestBody RequestDto requestDto, @DestinationVariable String draftId, @DestinationVariable String playerId) {
+        logger.info("Received request {} from {} to draft player {} for draft {}", requestDto.getRequestId(), requestDto.getEmail(), playerId, draftId);
         return draftService.draftPlayer(requestDto, UUID.fromString(playerId));
     }
 
+    // replaces the user's whole queue, the reply holds only the players that were still available
+    @MessageMapping("/pickQueue/{draftId}")
+    @SendToUser(destinations = "/ui/pickQueue/{draftId}", broadcast = false)
+    public CompletableFuture<List<UUID>> setPickQueue(@RequestBody RequestDto requestDto, @DestinationVariable String draftId) {
+        logger.info("Received request from {} to set their pick queue for draft {}", requestDto.getEmail(), draftId);
+        return draftService.setPickQueue(requestDto);
+    }
+
+    // a pick or queue the draft did not take goes back to the sender with the request id and the reason
+    @MessageExceptionHandler
+    @SendToUser(destinations = "/ui/draftRejected/{draftId}", broadcast = false)
+    public DraftRejection rejectRequest(DraftRequestRejectedException e) {
+        return e.getRejection();
+    }
+
+    // on reconnect the client asks for everything after the last sequence it applied
+    @MessageMapping("/draftEvents/{draftId}/{sequence}")
+    @SendToUser(destinations = "/ui/draftEvents/{draftId}", broadcast = false)
+    public CompletableFuture<List<DraftPickEvent>> getDraftEvents(@DestinationVariable String draftId, @DestinationVariable int sequence) {
+        logger.info("Received request for events of draft {} after sequence {}", draftId, sequence);
+        return draftService.getPickEvents(UUID.fromString(draftId), sequence);
+    }
+
 
     private void forceDraft()
     {
@@ -2,13 +2,16 @@ package crocker.golf.bestball.core.controllers;
 
 import crocker.golf.bestball.core.service.game.GameCreatorService;
 import crocker.golf.bestball.core.service.game.GameManagerService;
+import crocker.golf.bestball.core.util.ViewSerializer;
 import crocker.golf.bestball.domain.exceptions.game.TeamNotAuthorizedException;
-import crocker.golf.bestball.domain.game.Game;
 import crocker.golf.bestball.domain.game.GameDto;
+import crocker.golf.bestball.domain.game.GameView;
 import crocker.golf.bestball.domain.user.RequestDto;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -79,11 +82,21 @@ public class GameController {
     }
 
     @PostMapping("/loadGame")
-    public ResponseEntity getUpcomingTournaments(@RequestBody RequestDto requestDto) {
+    public ResponseEntity getUpcomingTournaments(@RequestBody RequestDto requestDto,
+                                                 @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         logger.info("Received request from {} to load game {}", requestDto.getEmail(), requestDto.getGameId());
-        Game game = gameManagerService.loadGame(requestDto);
+        GameView gameView = gameManagerService.loadGame(requestDto);
 
-        return new ResponseEntity<>(game, null, HttpStatus.OK);
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(gameView.getEtag());
+
+        if (ViewSerializer.isNotModified(ifNoneMatch, gameView.getEtag())) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
+
+        // already serialized when the view was built, so this is a byte copy rather than a Jackson pass
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new ResponseEntity<>(gameView.getJson(), headers, HttpStatus.OK);
     }
 
     @PostMapping("/deleteGame")
@@ -1,16 +1,17 @@
 package crocker.golf.bestball.core.controllers;
 
 import crocker.golf.bestball.core.service.game.InfoService;
-import crocker.golf.bestball.domain.game.TeamInfo;
+import crocker.golf.bestball.core.util.ViewSerializer;
 import crocker.golf.bestball.domain.user.UserCredentialsDto;
+import crocker.golf.bestball.domain.view.SerializedView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/info")
 public class InfoController {
@@ -24,11 +25,21 @@ public class InfoController {
     }
 
     @PostMapping("/getTeamInfo")
-    public ResponseEntity getTeamInfo(@RequestBody UserCredentialsDto userCredentialsDto ) {
+    public ResponseEntity getTeamInfo(@RequestBody UserCredentialsDto userCredentialsDto,
+                                      @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         try {
             logger.info("Received request to obtain team info from {}", userCredentialsDto.getEmail());
-            List<TeamInfo> teamInfo = infoService.getTeamInfo(userCredentialsDto);
-            return new ResponseEntity<>(teamInfo, null, HttpStatus.OK);
+            SerializedView teamInfo = infoService.getTeamInfoView(userCredentialsDto, ifNoneMatch);
+
+            HttpHeaders headers = new HttpHeaders();
+            headers.setETag(teamInfo.getEtag());
+
+            if (ViewSerializer.isNotModified(ifNoneMatch, teamInfo.getEtag())) {
+                return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+            }
+
+            headers.setContentType(MediaType.APPLICATION_JSON);
+            return new ResponseEntity<>(teamInfo.getJson(), headers, HttpStatus.OK);
         } catch (Exception e) {
             logger.error(e.getMessage(), e);
             return new ResponseEntity<>(e, null, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -2,17 +2,20 @@ package crocker.golf.bestball.core.controllers;
 
 import crocker.golf.bestball.core.service.pga.PgaInfoService;
 import crocker.golf.bestball.core.service.pga.PgaUpdateService;
-import crocker.golf.bestball.domain.pga.tournament.Tournament;
+import crocker.golf.bestball.core.util.TimeHelper;
+import crocker.golf.bestball.core.util.ViewSerializer;
+import crocker.golf.bestball.domain.view.SerializedView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/pga")
 public class PgaController {
@@ -26,9 +29,17 @@ public class PgaController {
     }
 
     @GetMapping("/upcomingTournaments")
-    public ResponseEntity getUpcomingTournaments() {
-        List<Tournament> tournaments = pgaInfoService.getUpcomingTournaments();
+    public ResponseEntity getUpcomingTournaments(@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        SerializedView tournaments = pgaInfoService.getUpcomingTournamentsView(TimeHelper.getCurrentSeason());
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(tournaments.getEtag());
+
+        if (ViewSerializer.isNotModified(ifNoneMatch, tournaments.getEtag())) {
+            return new ResponseEntity<>(headers, HttpStatus.NOT_MODIFIED);
+        }
 
-        return new ResponseEntity<>(tournaments, null, HttpStatus.OK);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return new ResponseEntity<>(tournaments.getJson(), headers, HttpStatus.OK);
     }
 }
@@ -0,0 +1,15 @@
+package crocker.golf.bestball.core.dao;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ArchiveDao {
+
+    List<UUID> getDraftsToArchive(int batchSize);
+
+    void archiveDraft(UUID draftId);
+
+    List<UUID> getGamesToCompact(int batchSize);
+
+    void compactGames(List<UUID> gameIds);
+}
@@ -0,0 +1,14 @@
+package crocker.golf.bestball.core.dao;
+
+import java.util.List;
+
+public interface CacheNotificationDao {
+
+    void listen();
+
+    List<String> getNotifications(int timeoutMillis);
+
+    void sendNotification(String payload);
+
+    void close();
+}
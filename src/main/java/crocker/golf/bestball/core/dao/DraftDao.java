@@ -2,11 +2,15 @@ package crocker.golf.bestball.core.dao;
 
 import crocker.golf.bestball.domain.enums.game.ReleaseStatus;
 import crocker.golf.bestball.domain.game.draft.Draft;
+import crocker.golf.bestball.domain.game.draft.DraftPick;
 import crocker.golf.bestball.domain.game.draft.DraftSchedule;
 import crocker.golf.bestball.domain.pga.PgaPlayer;
 import crocker.golf.bestball.domain.user.UserInfo;
 
+import java.time.LocalDateTime;
+import java.util.BitSet;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public interface DraftDao {
@@ -15,29 +19,47 @@ public interface DraftDao {
 
     void saveDraftSchedule(DraftSchedule draftSchedule);
 
-    void updateReleaseStatus(DraftSchedule draftSchedule);
+    boolean updateReleaseStatus(DraftSchedule draftSchedule);
 
     void deleteDraft(UUID draftId);
 
     void deleteDraftSchedules(UUID draftId);
 
-    void deleteDraftablePgaPlayers(UUID draftId);
+    void deleteDraftedPlayers(UUID draftId);
 
     void deleteDraftOrder(UUID draftId);
 
+    void deleteDraftPicks(UUID draftId);
+
+    void deletePickQueues(UUID draftId);
+
     Draft getLatestDraftById(UUID draftId);
 
     List<DraftSchedule> getDraftSchedulesByReleaseStatus(ReleaseStatus releaseStatus);
 
-    void saveDraftablePgaPlayers(UUID draftId, List<PgaPlayer> pgaPlayers);
+    List<DraftSchedule> claimDraftSchedules(String claimedBy, LocalDateTime now, LocalDateTime dueBy, LocalDateTime claimedUntil, int limit);
+
+    void saveDraftPool(UUID tournamentId, List<PgaPlayer> pgaPlayers);
+
+    void saveDraftedPlayers(UUID draftId, UUID tournamentId, int poolSize);
 
     void saveDraftOrder(UUID draftId, List<UserInfo> users);
 
-    void draftPlayer(UUID draftId, PgaPlayer pgaPlayer);
+    BitSet draftPlayer(UUID draftId, int poolIndex);
+
+    void saveDraftPick(DraftPick draftPick);
 
-    List<PgaPlayer> getDraftablePgaPlayersByDraftId(UUID draftId);
+    void savePickQueue(UUID draftId, UUID userId, List<UUID> playerIds);
+
+    List<PgaPlayer> getDraftPoolByTournamentId(UUID tournamentId);
+
+    BitSet getDraftedPlayersByDraftId(UUID draftId);
 
     List<UserInfo> getDraftOrderByDraftId(UUID draftId);
 
-    PgaPlayer getPgaPlayerById(UUID draftId, UUID playerId);
+    List<DraftPick> getDraftPicksByDraftId(UUID draftId);
+
+    int getLatestPickNumber(UUID draftId);
+
+    Map<UUID, List<UUID>> getPickQueuesByDraftId(UUID draftId);
 }
@@ -0,0 +1,10 @@
+package crocker.golf.bestball.core.dao;
+
+import crocker.golf.bestball.domain.game.GameAggregate;
+
+import java.util.UUID;
+
+public interface GameAggregateDao {
+
+    GameAggregate getGameAggregate(UUID gameId, UUID tournamentId);
+}
@@ -19,4 +19,6 @@ public interface GameDao {
     Game getLatestGameByDraftId(UUID draftId);
 
     List<Game> getInProgressGames();
+
+    List<Game> getDraftedGamesNotStarted();
 }
@@ -0,0 +1,6 @@
+package crocker.golf.bestball.core.dao;
+
+public interface PartitionDao {
+
+    void createSeasonPartitions(int season);
+}
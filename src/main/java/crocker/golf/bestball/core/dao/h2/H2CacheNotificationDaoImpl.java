@@ -0,0 +1,38 @@
+package crocker.golf.bestball.core.dao.h2;
+
+import crocker.golf.bestball.core.dao.CacheNotificationDao;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.Collections;
+import java.util.List;
+
+public class H2CacheNotificationDaoImpl implements CacheNotificationDao {
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    // the local profile runs a single node, so there is nobody to notify
+    public H2CacheNotificationDaoImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void listen() {
+
+    }
+
+    public List<String> getNotifications(int timeoutMillis) {
+        try {
+            Thread.sleep(timeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return Collections.emptyList();
+    }
+
+    public void sendNotification(String payload) {
+
+    }
+
+    public void close() {
+
+    }
+}
@@ -1,12 +1,14 @@
 package crocker.golf.bestball.core.dao.h2;
 
 import crocker.golf.bestball.core.dao.DraftDao;
+import crocker.golf.bestball.core.mapper.game.DraftPickRowMapper;
 import crocker.golf.bestball.core.mapper.game.DraftRowMapper;
 import crocker.golf.bestball.core.mapper.game.DraftScheduleRowMapper;
 import crocker.golf.bestball.core.mapper.pga.PgaPlayerMapper;
 import crocker.golf.bestball.core.mapper.game.UserInfoRowMapper;
 import crocker.golf.bestball.domain.enums.game.ReleaseStatus;
 import crocker.golf.bestball.domain.game.draft.Draft;
+import crocker.golf.bestball.domain.game.draft.DraftPick;
 import crocker.golf.bestball.domain.game.draft.DraftSchedule;
 import crocker.golf.bestball.domain.pga.PgaPlayer;
 import crocker.golf.bestball.domain.user.UserInfo;
@@ -14,9 +16,18 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 public class H2DraftDaoImpl implements DraftDao {
 
@@ -25,21 +36,32 @@ public class H2DraftDaoImpl implements DraftDao {
     private NamedParameterJdbcTemplate jdbcTemplate;
 
     private final String DRAFTS = "DRAFTS";
+    private final String CURRENT_DRAFTS = "CURRENT_DRAFTS";
     private final String DRAFT_SCHEDULES = "DRAFT_SCHEDULES";
-    private final String DRAFT_PGA_PLAYERS = "DRAFT_PGA_PLAYERS";
+    private final String TOURNAMENT_DRAFT_POOLS = "TOURNAMENT_DRAFT_POOLS";
+    private final String DRAFT_POOLS = "DRAFT_POOLS";
     private final String DRAFT_ORDER = "DRAFT_ORDER";
+    private final String DRAFT_PICKS = "DRAFT_PICKS";
+    private final String DRAFT_PICK_QUEUES = "DRAFT_PICK_QUEUES";
 
     private final String SAVE_NEW_DRAFT = "INSERT INTO " + DRAFTS +
-            " (DRAFT_ID, DRAFT_STATE, DRAFT_VERSION, DRAFT_TIME, CURRENT_PICK)" +
-            " VALUES(:draftId, :draftState, :draftVersion, :draftTime, :currentPick);";
+            " (DRAFT_ID, DRAFT_STATE, DRAFT_VERSION, DRAFT_TIME, CURRENT_PICK, DRAFT_STYLE, ROUNDS)" +
+            " VALUES(:draftId, :draftState, :draftVersion, :draftTime, :currentPick, :draftStyle, :rounds);";
+
+    private final String UPDATE_CURRENT_DRAFT = "MERGE INTO " + CURRENT_DRAFTS +
+            " (DRAFT_ID, DRAFT_VERSION)" +
+            " KEY(DRAFT_ID)" +
+            " VALUES(:draftId, :draftVersion);";
 
     private final String SAVE_NEW_DRAFT_SCHEDULE = "INSERT INTO " + DRAFT_SCHEDULES +
             " (DRAFT_ID, RELEASE_STATUS, RELEASE_TIME)" +
             " VALUES(:draftId, :releaseStatus, :releaseTime);";
 
+    // only the node holding the claim may move the schedule on, a node whose lease ran out finds no row to update
     private final String UPDATE_RELEASE_STATUS = "UPDATE " + DRAFT_SCHEDULES +
             " SET RELEASE_STATUS = :releaseStatus" +
-            " WHERE DRAFT_ID = :draftId;";
+            " WHERE DRAFT_ID = :draftId" +
+            " AND CLAIMED_BY = :claimedBy;";
 
     private final String DELETE_DRAFT = "DELETE FROM " + DRAFTS +
             " WHERE DRAFT_ID = :draftId;";
@@ -47,48 +69,103 @@ public class H2DraftDaoImpl implements DraftDao {
     private final String DELETE_DRAFT_SCHEDULES = "DELETE FROM " + DRAFT_SCHEDULES +
             " WHERE DRAFT_ID = :draftId;";
 
-    private final String DELETE_DRAFTABLE_PGA_PLAYERS = "DELETE FROM " + DRAFT_PGA_PLAYERS +
+    private final String DELETE_DRAFTED_PLAYERS = "DELETE FROM " + DRAFT_POOLS +
             " WHERE DRAFT_ID = :draftId;";
 
     private final String DELETE_DRAFT_ORDER = "DELETE FROM " + DRAFT_ORDER +
             " WHERE DRAFT_ID = :draftId;";
 
-    private final String SAVE_DRAFTABLE_PGA_PLAYERS = "INSERT INTO " + DRAFT_PGA_PLAYERS +
-            " (DRAFT_ID, PLAYER_ID, PLAYER_RANK, PLAYER_NAME, DRAFTED)" +
-            " VALUES(:draftId, :playerId, :playerRank, :playerName, :drafted);";
+    private final String DELETE_DRAFT_PICKS = "DELETE FROM " + DRAFT_PICKS +
+            " WHERE DRAFT_ID = :draftId;";
+
+    private final String DELETE_PICK_QUEUES = "DELETE FROM " + DRAFT_PICK_QUEUES +
+            " WHERE DRAFT_ID = :draftId;";
+
+    private final String DELETE_PICK_QUEUE = "DELETE FROM " + DRAFT_PICK_QUEUES +
+            " WHERE DRAFT_ID = :draftId AND USER_ID = :userId;";
+
+    private final String SAVE_PICK_QUEUE = "INSERT INTO " + DRAFT_PICK_QUEUES +
+            " (DRAFT_ID, USER_ID, QUEUE_POSITION, PLAYER_ID)" +
+            " VALUES(:draftId, :userId, :queuePosition, :playerId);";
+
+    private final String SAVE_DRAFT_POOL = "MERGE INTO " + TOURNAMENT_DRAFT_POOLS +
+            " (TOURNAMENT_ID, POOL_INDEX, PLAYER_ID, PLAYER_RANK, PLAYER_NAME)" +
+            " KEY(TOURNAMENT_ID, POOL_INDEX)" +
+            " VALUES(:tournamentId, :poolIndex, :playerId, :playerRank, :playerName);";
+
+    private final String SAVE_DRAFTED_PLAYERS = "MERGE INTO " + DRAFT_POOLS +
+            " (DRAFT_ID, TOURNAMENT_ID, DRAFTED)" +
+            " KEY(DRAFT_ID)" +
+            " VALUES(:draftId, :tournamentId, :drafted);";
 
     private final String SAVE_DRAFT_ORDER = "INSERT INTO " + DRAFT_ORDER +
             " (DRAFT_ID, USER_ID, PICK_NUMBER, USER_NAME, EMAIL)" +
             " VALUES(:draftId, :userId, :pickNumber, :userName, :email);";
 
-    private final String DRAFT_PLAYER = "UPDATE " + DRAFT_PGA_PLAYERS +
+    private final String DRAFT_PLAYER = "UPDATE " + DRAFT_POOLS +
             " SET DRAFTED=:drafted" +
-            " WHERE DRAFT_ID=:draftId AND PLAYER_ID=:playerId;";
+            " WHERE DRAFT_ID=:draftId;";
 
-    private final String GET_LATEST_DRAFT_BY_ID = "SELECT * FROM " + DRAFTS +
-            " WHERE (DRAFT_ID, DRAFT_VERSION) IN" +
-            " (SELECT DRAFT_ID, MAX(DRAFT_VERSION) FROM " + DRAFTS +
-            " WHERE DRAFT_ID=:draftId);";
+    private final String GET_LATEST_DRAFT_BY_ID = "SELECT " + DRAFTS + ".* FROM " + CURRENT_DRAFTS +
+            " INNER JOIN " + DRAFTS +
+            " ON " + DRAFTS + ".DRAFT_ID = " + CURRENT_DRAFTS + ".DRAFT_ID" +
+            " AND " + DRAFTS + ".DRAFT_VERSION = " + CURRENT_DRAFTS + ".DRAFT_VERSION" +
+            " WHERE " + CURRENT_DRAFTS + ".DRAFT_ID=:draftId;";
 
     private final String GET_DRAFT_SCHEDULES_BY_RELEASE_STATUS = "SELECT * FROM " + DRAFT_SCHEDULES +
             " WHERE RELEASE_STATUS = :releaseStatus;";
 
-    private final String GET_DRAFTABLE_PGA_PLAYERS = "SELECT * FROM " + DRAFT_PGA_PLAYERS +
-            " WHERE DRAFT_ID=:draftId AND DRAFTED=:drafted;";
+    private final String GET_DUE_DRAFT_SCHEDULES_FOR_UPDATE = "SELECT * FROM " + DRAFT_SCHEDULES +
+            " WHERE RELEASE_STATUS <> :releaseStatus" +
+            " AND RELEASE_TIME <= :dueBy" +
+            " AND (CLAIMED_UNTIL IS NULL OR CLAIMED_UNTIL < :now)" +
+            " ORDER BY RELEASE_TIME" +
+            " LIMIT :limit" +
+            " FOR UPDATE;";
 
-    private final String GET_DRAFT_ORDER_BY_DRAFT_ID = "SELECT * FROM " + DRAFT_ORDER +
+    private final String CLAIM_DRAFT_SCHEDULE = "UPDATE " + DRAFT_SCHEDULES +
+            " SET CLAIMED_BY = :claimedBy, CLAIMED_UNTIL = :claimedUntil" +
+            " WHERE DRAFT_ID = :draftId;";
+
+    private final String GET_DRAFT_POOL_BY_TOURNAMENT_ID = "SELECT * FROM " + TOURNAMENT_DRAFT_POOLS +
+            " WHERE TOURNAMENT_ID=:tournamentId" +
+            " ORDER BY POOL_INDEX;";
+
+    private final String GET_DRAFTED_PLAYERS_BY_DRAFT_ID = "SELECT DRAFTED FROM " + DRAFT_POOLS +
+            " WHERE DRAFT_ID=:draftId;";
+
+    private final String GET_DRAFTED_PLAYERS_FOR_UPDATE = "SELECT DRAFTED FROM " + DRAFT_POOLS +
+            " WHERE DRAFT_ID=:draftId FOR UPDATE;";
+
+    // append only, the primary key on the pick number is what stops two writers taking the same pick
+    // and the unique request id what stops a retried request being logged twice
+    private final String SAVE_DRAFT_PICK = "INSERT INTO " + DRAFT_PICKS +
+            " (DRAFT_ID, PICK_NUMBER, USER_ID, PLAYER_ID, PICKED_AT, REQUEST_ID)" +
+            " VALUES(:draftId, :pickNumber, :userId, :playerId, :pickedAt, :requestId);";
+
+    private final String GET_DRAFT_PICKS_BY_DRAFT_ID = "SELECT * FROM " + DRAFT_PICKS +
+            " WHERE DRAFT_ID=:draftId" +
+            " ORDER BY PICK_NUMBER;";
+
+    private final String GET_LATEST_PICK_NUMBER = "SELECT COALESCE(MAX(PICK_NUMBER), 0) FROM " + DRAFT_PICKS +
             " WHERE DRAFT_ID=:draftId;";
 
-    private final String GET_PLAYER_BY_ID  = "SELECT * FROM " + DRAFT_PGA_PLAYERS +
-            " WHERE DRAFT_ID=:draftId AND PLAYER_ID=:playerId";
+    private final String GET_PICK_QUEUES_BY_DRAFT_ID = "SELECT * FROM " + DRAFT_PICK_QUEUES +
+            " WHERE DRAFT_ID=:draftId" +
+            " ORDER BY USER_ID, QUEUE_POSITION;";
+
+    private final String GET_DRAFT_ORDER_BY_DRAFT_ID = "SELECT * FROM " + DRAFT_ORDER +
+            " WHERE DRAFT_ID=:draftId;";
 
     public H2DraftDaoImpl(NamedParameterJdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    @Transactional
     public void saveDraft(Draft draft) {
         MapSqlParameterSource params = getDraftParams(draft);
         jdbcTemplate.update(SAVE_NEW_DRAFT, params);
+        jdbcTemplate.update(UPDATE_CURRENT_DRAFT, params);
     }
 
     public void saveDraftSchedule(DraftSchedule draftSchedule) {
@@ -96,25 +173,51 @@ public class H2DraftDaoImpl implements DraftDao {
         jdbcTemplate.update(SAVE_NEW_DRAFT_SCHEDULE, params);
     }
 
-    public void updateReleaseStatus(DraftSchedule draftSchedule) {
+    public boolean updateReleaseStatus(DraftSchedule draftSchedule) {
         MapSqlParameterSource params = getDraftScheduleParams(draftSchedule);
-        jdbcTemplate.update(UPDATE_RELEASE_STATUS, params);
+        return jdbcTemplate.update(UPDATE_RELEASE_STATUS, params) > 0;
     }
 
     public void deleteDraft(UUID draftId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("draftId", draftId);
 
+        jdbcTemplate.update(DELETE_DRAFT, params);
     }
 
     public void deleteDraftSchedules(UUID draftId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("draftId", draftId);
 
+        jdbcTemplate.update(DELETE_DRAFT_SCHEDULES, params);
     }
 
-    public void deleteDraftablePgaPlayers(UUID draftId) {
+    public void deleteDraftedPlayers(UUID draftId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("draftId", draftId);
 
+        jdbcTemplate.update(DELETE_DRAFTED_PLAYERS, params);
     }
 
     public void deleteDraftOrder(UUID draftId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("draftId", draftId);
 
+        jdbcTemplate.update(DELETE_DRAFT_ORDER, params);
+    }
+
+    public void deleteDraftPicks(UUID draftId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("draftId", draftId);
+
+        jdbcTemplate.update(DELETE_DRAFT_PICKS, params);
+    }
+
+    public void deletePickQueues(UUID draftId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("draftId", draftId);
+
+        jdbcTemplate.update(DELETE_PICK_QUEUES, params);
     }
 
     public Draft getLatestDraftById(UUID draftId) {
@@ -131,11 +234,43 @@ public class H2DraftDaoImpl implements DraftDao {
         return jdbcTemplate.query(GET_DRAFT_SCHEDULES_BY_RELEASE_STATUS, params, new DraftScheduleRowMapper());
     }
 
-    public void saveDraftablePgaPlayers(UUID draftId, List<PgaPlayer> pgaPlayers) {
-        logger.info("Finalizing pga players for draft {}", draftId);
+    // h2 has no skip locked, locally there is only ever one node claiming
+    @Transactional
+    public List<DraftSchedule> claimDraftSchedules(String claimedBy, LocalDateTime now, LocalDateTime dueBy, LocalDateTime claimedUntil, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("releaseStatus", ReleaseStatus.RELEASED.name());
+        params.addValue("now", now);
+        params.addValue("dueBy", dueBy);
+        params.addValue("limit", limit);
+
+        List<DraftSchedule> claimed = jdbcTemplate.query(GET_DUE_DRAFT_SCHEDULES_FOR_UPDATE, params, new DraftScheduleRowMapper()).stream()
+                .map(draftSchedule -> draftSchedule.toBuilder()
+                        .claimedBy(claimedBy)
+                        .claimedUntil(claimedUntil)
+                        .build())
+                .collect(Collectors.toList());
+
+        jdbcTemplate.batchUpdate(CLAIM_DRAFT_SCHEDULE, claimed.stream()
+                .map(this::getDraftScheduleParams)
+                .toArray(MapSqlParameterSource[]::new));
+
+        return claimed;
+    }
 
-        MapSqlParameterSource[] params = getNewDraftPgaPlayers(draftId, pgaPlayers);
-        jdbcTemplate.batchUpdate(SAVE_DRAFTABLE_PGA_PLAYERS, params);
+    public void saveDraftPool(UUID tournamentId, List<PgaPlayer> pgaPlayers) {
+        logger.info("Saving draft pool of {} players for tournament {}", pgaPlayers.size(), tournamentId);
+
+        MapSqlParameterSource[] params = getNewDraftPool(tournamentId, pgaPlayers);
+        jdbcTemplate.batchUpdate(SAVE_DRAFT_POOL, params);
+    }
+
+    public void saveDraftedPlayers(UUID draftId, UUID tournamentId, int poolSize) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("draftId", draftId);
+        params.addValue("tournamentId", tournamentId);
+        params.addValue("drafted", new byte[(poolSize + 7) / 8]);
+
+        jdbcTemplate.update(SAVE_DRAFTED_PLAYERS, params);
     }
 
     public void saveDraftOrder(UUID draftId, List<UserInfo> users) {
@@ -145,21 +280,59 @@ public class H2DraftDaoImpl implements DraftDao {
         jdbcTemplate.batchUpdate(SAVE_DRAFT_ORDER, params);
     }
 
-    public void draftPlayer(UUID draftId, PgaPlayer pgaPlayer) {
+    // h2 has no set_bit, the row lock keeps the read and write of the bits together
+    @Transactional
+    public BitSet draftPlayer(UUID draftId, int poolIndex) {
         MapSqlParameterSource params = new MapSqlParameterSource();
         params.addValue("draftId", draftId);
-        params.addValue("playerId", pgaPlayer.getPlayerId());
-        params.addValue("drafted", true);
 
+        byte[] bytes = jdbcTemplate.queryForObject(GET_DRAFTED_PLAYERS_FOR_UPDATE, params, (rs, rowNum) -> rs.getBytes("DRAFTED"));
+        BitSet drafted = BitSet.valueOf(bytes);
+        drafted.set(poolIndex);
+
+        // toByteArray drops trailing empty bytes, keep the stored value at its original size
+        params.addValue("drafted", Arrays.copyOf(drafted.toByteArray(), Math.max(bytes.length, (poolIndex + 8) / 8)));
         jdbcTemplate.update(DRAFT_PLAYER, params);
+
+        return drafted;
+    }
+
+    public void saveDraftPick(DraftPick draftPick) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("draftId", draftPick.getDraftId());
+        params.addValue("pickNumber", draftPick.getPickNumber());
+        params.addValue("userId", draftPick.getUserId());
+        params.addValue("playerId", draftPick.getPlayerId());
+        params.addValue("pickedAt", draftPick.getPickedAt());
+        params.addValue("requestId", draftPick.getRequestId());
+
+        jdbcTemplate.update(SAVE_DRAFT_PICK, params);
     }
 
-    public List<PgaPlayer> getDraftablePgaPlayersByDraftId(UUID draftId) {
+    // the queue is replaced whole, so the positions always run 0..n-1
+    @Transactional
+    public void savePickQueue(UUID draftId, UUID userId, List<UUID> playerIds) {
         MapSqlParameterSource params = new MapSqlParameterSource();
         params.addValue("draftId", draftId);
-        params.addValue("drafted", false);
+        params.addValue("userId", userId);
 
-        return jdbcTemplate.query(GET_DRAFTABLE_PGA_PLAYERS, params, new PgaPlayerMapper());
+        jdbcTemplate.update(DELETE_PICK_QUEUE, params);
+        jdbcTemplate.batchUpdate(SAVE_PICK_QUEUE, getNewPickQueue(draftId, userId, playerIds));
+    }
+
+    public List<PgaPlayer> getDraftPoolByTournamentId(UUID tournamentId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("tournamentId", tournamentId);
+
+        return jdbcTemplate.query(GET_DRAFT_POOL_BY_TOURNAMENT_ID, params, new PgaPlayerMapper());
+    }
+
+    public BitSet getDraftedPlayersByDraftId(UUID draftId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("draftId", draftId);
+
+        List<byte[]> drafted = jdbcTemplate.query(GET_DRAFTED_PLAYERS_BY_DRAFT_ID, params, (rs, rowNum) -> rs.getBytes("DRAFTED"));
+        return drafted.isEmpty() ? new BitSet() : BitSet.valueOf(drafted.get(0));
     }
 
     public List<UserInfo> getDraftOrderByDraftId(UUID draftId) {
@@ -169,11 +342,31 @@ public class H2DraftDaoImpl implements DraftDao {
         return jdbcTemplate.query(GET_DRAFT_ORDER_BY_DRAFT_ID, params, new UserInfoRowMapper());
     }
 
-    public PgaPlayer getPgaPlayerById(UUID draftId, UUID playerId) {
+    public List<DraftPick> getDraftPicksByDraftId(UUID draftId) {
         MapSqlParameterSource params = new MapSqlParameterSource();
         params.addValue("draftId", draftId);
-        params.addValue("playerId", playerId);
-        return jdbcTemplate.queryForObject(GET_PLAYER_BY_ID, params, new PgaPlayerMapper());
+
+        return jdbcTemplate.query(GET_DRAFT_PICKS_BY_DRAFT_ID, params, new DraftPickRowMapper());
+    }
+
+    public int getLatestPickNumber(UUID draftId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("draftId", draftId);
+
+        return jdbcTemplate.queryForObject(GET_LATEST_PICK_NUMBER, params, Integer.class);
+    }
+
+    public Map<UUID, List<UUID>> getPickQueuesByDraftId(UUID draftId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("draftId", draftId);
+
+        Map<UUID, List<UUID>> pickQueues = new LinkedHashMap<>();
+        jdbcTemplate.query(GET_PICK_QUEUES_BY_DRAFT_ID, params, rs -> {
+            pickQueues.computeIfAbsent((UUID) rs.getObject("USER_ID"), userId -> new ArrayList<>())
+                    .add((UUID) rs.getObject("PLAYER_ID"));
+        });
+
+        return pickQueues;
     }
 
     private MapSqlParameterSource getDraftParams(Draft draft) {
@@ -183,6 +376,8 @@ public class H2DraftDaoImpl implements DraftDao {
         params.addValue("draftVersion", draft.getDraftVersion());
         params.addValue("draftTime", draft.getStartTime());
         params.addValue("currentPick", draft.getCurrentPick());
+        params.addValue("draftStyle", draft.getDraftStyle().name());
+        params.addValue("rounds", draft.getRounds());
 
         return params;
     }
@@ -192,18 +387,34 @@ public class H2DraftDaoImpl implements DraftDao {
         params.addValue("draftId", draftSchedule.getDraftId());
         params.addValue("releaseStatus", draftSchedule.getReleaseStatus().name());
         params.addValue("releaseTime", draftSchedule.getReleaseTime());
+        params.addValue("claimedBy", draftSchedule.getClaimedBy());
+        params.addValue("claimedUntil", draftSchedule.getClaimedUntil());
 
         return params;
     }
 
-    private MapSqlParameterSource[] getNewDraftPgaPlayers(UUID draftId, List<PgaPlayer> pgaPlayers) {
-        return pgaPlayers.stream().map(pgaPlayer -> {
+    private MapSqlParameterSource[] getNewDraftPool(UUID tournamentId, List<PgaPlayer> pgaPlayers) {
+        return IntStream.range(0, pgaPlayers.size()).mapToObj(poolIndex -> {
+            PgaPlayer pgaPlayer = pgaPlayers.get(poolIndex);
+
             MapSqlParameterSource params = new MapSqlParameterSource();
-            params.addValue("draftId", draftId);
+            params.addValue("tournamentId", tournamentId);
+            params.addValue("poolIndex", poolIndex);
             params.addValue("playerId", pgaPlayer.getPlayerId());
             params.addValue("playerRank", pgaPlayer.getRank());
             params.addValue("playerName", pgaPlayer.getPlayerName());
-            params.addValue("drafted", false);
+
+            return params;
+        }).toArray(MapSqlParameterSource[]::new);
+    }
+
+    private MapSqlParameterSource[] getNewPickQueue(UUID draftId, UUID userId, List<UUID> playerIds) {
+        return IntStream.range(0, playerIds.size()).mapToObj(queuePosition -> {
+            MapSqlParameterSource params = new MapSqlParameterSource();
+            params.addValue("draftId", draftId);
+            params.addValue("userId", userId);
+            params.addValue("queuePosition", queuePosition);
+            params.addValue("playerId", playerIds.get(queuePosition));
 
             return params;
         }).toArray(MapSqlParameterSource[]::new);
@@ -0,0 +1,57 @@
+package crocker.golf.bestball.core.dao.h2;
+
+import crocker.golf.bestball.core.dao.GameAggregateDao;
+import crocker.golf.bestball.core.mapper.game.TeamRoundMapper;
+import crocker.golf.bestball.core.mapper.game.TeamRowMapper;
+import crocker.golf.bestball.core.mapper.pga.PlayerRoundMapper;
+import crocker.golf.bestball.core.mapper.user.UserRowMapper;
+import crocker.golf.bestball.domain.game.GameAggregate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.util.UUID;
+
+public class H2GameAggregateDaoImpl implements GameAggregateDao {
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+    private TeamRowMapper teamRowMapper;
+
+    private final String TEAMS = "TEAMS";
+    private final String USER_CREDENTIALS = "USER_CREDENTIALS";
+    private final String TEAM_ROUNDS = "TEAM_ROUNDS";
+    private final String PLAYER_ROUNDS = "PLAYER_ROUNDS";
+
+    private final String GET_TEAMS_BY_GAME_ID = "SELECT * FROM " + TEAMS +
+            " WHERE GAME_ID=:gameId;";
+
+    private final String GET_USERS_BY_GAME_ID = "SELECT * FROM " + USER_CREDENTIALS +
+            " WHERE USER_ID IN (SELECT USER_ID FROM " + TEAMS + " WHERE GAME_ID=:gameId);";
+
+    private final String GET_TEAM_ROUNDS_BY_GAME_ID = "SELECT * FROM " + TEAM_ROUNDS +
+            " WHERE GAME_ID=:gameId;";
+
+    private final String GET_TEAM_PLAYER_ROUNDS = "SELECT * FROM " + PLAYER_ROUNDS +
+            " WHERE TOURNAMENT_ID=:tournamentId AND PLAYER_ID IN" +
+            " (SELECT PLAYER_ONE_ID FROM " + TEAMS + " WHERE GAME_ID=:gameId" +
+            " UNION SELECT PLAYER_TWO_ID FROM " + TEAMS + " WHERE GAME_ID=:gameId" +
+            " UNION SELECT PLAYER_THREE_ID FROM " + TEAMS + " WHERE GAME_ID=:gameId" +
+            " UNION SELECT PLAYER_FOUR_ID FROM " + TEAMS + " WHERE GAME_ID=:gameId);";
+
+    public H2GameAggregateDaoImpl(NamedParameterJdbcTemplate jdbcTemplate, TeamRowMapper teamRowMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.teamRowMapper = teamRowMapper;
+    }
+
+    public GameAggregate getGameAggregate(UUID gameId, UUID tournamentId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("gameId", gameId);
+        params.addValue("tournamentId", tournamentId);
+
+        return GameAggregate.builder()
+                .teams(jdbcTemplate.query(GET_TEAMS_BY_GAME_ID, params, teamRowMapper))
+                .users(jdbcTemplate.query(GET_USERS_BY_GAME_ID, params, new UserRowMapper()))
+                .teamRounds(jdbcTemplate.query(GET_TEAM_ROUNDS_BY_GAME_ID, params, new TeamRoundMapper()))
+                .playerRounds(jdbcTemplate.query(GET_TEAM_PLAYER_ROUNDS, params, new PlayerRoundMapper()))
+                .build();
+    }
+}
@@ -0,0 +1,17 @@
+package crocker.golf.bestball.core.dao.h2;
+
+import crocker.golf.bestball.core.dao.PartitionDao;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class H2PartitionDaoImpl implements PartitionDao {
+
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    public H2PartitionDaoImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void createSeasonPartitions(int season) {
+
+    }
+}
@@ -0,0 +1,124 @@
+package crocker.golf.bestball.core.dao.postgresql;
+
+import crocker.golf.bestball.core.dao.ArchiveDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.UUID;
+
+public class ArchiveDaoImpl implements ArchiveDao {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveDaoImpl.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final String DRAFTS = "DRAFTS";
+    private final String CURRENT_DRAFTS = "CURRENT_DRAFTS";
+    private final String TOURNAMENT_DRAFT_POOLS = "TOURNAMENT_DRAFT_POOLS";
+    private final String DRAFT_POOLS = "DRAFT_POOLS";
+    private final String DRAFT_ORDER = "DRAFT_ORDER";
+    private final String DRAFT_PICK_QUEUES = "DRAFT_PICK_QUEUES";
+    private final String DRAFT_ARCHIVE = "DRAFT_ARCHIVE";
+    private final String GAMES = "GAMES";
+    private final String CURRENT_GAMES = "CURRENT_GAMES";
+
+    // the draft order and pool are read for as long as the game is played, only drafts of finished games are archived
+    private final String GET_DRAFTS_TO_ARCHIVE = "SELECT " + CURRENT_DRAFTS + ".DRAFT_ID FROM " + CURRENT_DRAFTS +
+            " INNER JOIN " + DRAFTS +
+            " ON " + DRAFTS + ".DRAFT_ID = " + CURRENT_DRAFTS + ".DRAFT_ID" +
+            " AND " + DRAFTS + ".DRAFT_VERSION = " + CURRENT_DRAFTS + ".DRAFT_VERSION" +
+            " INNER JOIN " + CURRENT_GAMES +
+            " ON " + CURRENT_GAMES + ".DRAFT_ID = " + CURRENT_DRAFTS + ".DRAFT_ID" +
+            " WHERE " + DRAFTS + ".DRAFT_STATE='COMPLETE'" +
+            " AND " + CURRENT_GAMES + ".GAME_STATE='COMPLETE'" +
+            " AND NOT EXISTS (SELECT 1 FROM " + DRAFT_ARCHIVE +
+            " WHERE " + DRAFT_ARCHIVE + ".DRAFT_ID = " + CURRENT_DRAFTS + ".DRAFT_ID)" +
+            " LIMIT :batchSize;";
+
+    // pool and order are folded into jsonb by the database, the rows never travel to the app
+    private final String ARCHIVE_DRAFT = "INSERT INTO " + DRAFT_ARCHIVE +
+            " (DRAFT_ID, PLAYER_POOL, DRAFT_ORDER, ARCHIVED_AT)" +
+            " VALUES(:draftId," +
+            " (SELECT COALESCE(jsonb_agg(jsonb_build_object('playerId', PLAYER_ID, 'rank', PLAYER_RANK," +
+            " 'name', PLAYER_NAME, 'drafted', get_bit(DRAFTED, POOL_INDEX) = 1) ORDER BY POOL_INDEX), '[]'::jsonb)" +
+            " FROM " + DRAFT_POOLS + " INNER JOIN " + TOURNAMENT_DRAFT_POOLS +
+            " ON " + TOURNAMENT_DRAFT_POOLS + ".TOURNAMENT_ID = " + DRAFT_POOLS + ".TOURNAMENT_ID" +
+            " WHERE " + DRAFT_POOLS + ".DRAFT_ID=:draftId)," +
+            " (SELECT COALESCE(jsonb_agg(jsonb_build_object('pickNumber', PICK_NUMBER, 'userId', USER_ID)" +
+            " ORDER BY PICK_NUMBER), '[]'::jsonb)" +
+            " FROM " + DRAFT_ORDER + " WHERE DRAFT_ID=:draftId)," +
+            " NOW())" +
+            " ON CONFLICT (DRAFT_ID) DO NOTHING;";
+
+    // the tournament pool stays, it is shared with the tournament's other drafts
+    private final String DELETE_DRAFTED_PLAYERS = "DELETE FROM " + DRAFT_POOLS +
+            " WHERE DRAFT_ID=:draftId;";
+
+    private final String DELETE_DRAFT_ORDER = "DELETE FROM " + DRAFT_ORDER +
+            " WHERE DRAFT_ID=:draftId;";
+
+    private final String DELETE_PICK_QUEUES = "DELETE FROM " + DRAFT_PICK_QUEUES +
+            " WHERE DRAFT_ID=:draftId;";
+
+    private final String DELETE_OLD_DRAFT_VERSIONS = "DELETE FROM " + DRAFTS +
+            " WHERE DRAFT_ID=:draftId AND DRAFT_VERSION <" +
+            " (SELECT DRAFT_VERSION FROM " + CURRENT_DRAFTS + " WHERE DRAFT_ID=:draftId);";
+
+    private final String GET_GAMES_TO_COMPACT = "SELECT " + CURRENT_GAMES + ".GAME_ID FROM " + CURRENT_GAMES +
+            " WHERE " + CURRENT_GAMES + ".GAME_STATE='COMPLETE'" +
+            " AND EXISTS (SELECT 1 FROM " + GAMES +
+            " WHERE " + GAMES + ".GAME_ID = " + CURRENT_GAMES + ".GAME_ID" +
+            " AND " + GAMES + ".GAME_VERSION < " + CURRENT_GAMES + ".GAME_VERSION)" +
+            " LIMIT :batchSize;";
+
+    private final String DELETE_OLD_GAME_VERSIONS = "DELETE FROM " + GAMES +
+            " USING " + CURRENT_GAMES +
+            " WHERE " + GAMES + ".GAME_ID = " + CURRENT_GAMES + ".GAME_ID" +
+            " AND " + GAMES + ".GAME_VERSION < " + CURRENT_GAMES + ".GAME_VERSION" +
+            " AND " + CURRENT_GAMES + ".GAME_ID IN (:gameIds);";
+
+    public ArchiveDaoImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public List<UUID> getDraftsToArchive(int batchSize) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("batchSize", batchSize);
+
+        return jdbcTemplate.query(GET_DRAFTS_TO_ARCHIVE, params, (rs, rowNum) -> (UUID) rs.getObject("DRAFT_ID"));
+    }
+
+    @Transactional
+    public void archiveDraft(UUID draftId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("draftId", draftId);
+
+        jdbcTemplate.update(ARCHIVE_DRAFT, params);
+        int pools = jdbcTemplate.update(DELETE_DRAFTED_PLAYERS, params);
+        int picks = jdbcTemplate.update(DELETE_DRAFT_ORDER, params);
+        jdbcTemplate.update(DELETE_PICK_QUEUES, params);
+        int versions = jdbcTemplate.update(DELETE_OLD_DRAFT_VERSIONS, params);
+
+        logger.info("Archived draft {}: {} pool rows, {} order rows, {} old versions removed", draftId, pools, picks, versions);
+    }
+
+    public List<UUID> getGamesToCompact(int batchSize) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("batchSize", batchSize);
+
+        return jdbcTemplate.query(GET_GAMES_TO_COMPACT, params, (rs, rowNum) -> (UUID) rs.getObject("GAME_ID"));
+    }
+
+    @Transactional
+    public void compactGames(List<UUID> gameIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("gameIds", gameIds);
+
+        int versions = jdbcTemplate.update(DELETE_OLD_GAME_VERSIONS, params);
+        logger.info("Compacted {} games, {} old versions removed", gameIds.size(), versions);
+    }
+}
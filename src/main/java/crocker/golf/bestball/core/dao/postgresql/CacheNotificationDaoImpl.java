@@ -0,0 +1,93 @@
+package crocker.golf.bestball.core.dao.postgresql;
+
+import crocker.golf.bestball.core.dao.CacheNotificationDao;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+public class CacheNotificationDaoImpl implements CacheNotificationDao {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheNotificationDaoImpl.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    private final String CHANNEL = "cache_evictions";
+
+    private final String LISTEN = "LISTEN " + CHANNEL + ";";
+
+    private final String NOTIFY = "SELECT pg_notify('" + CHANNEL + "', :payload);";
+
+    // held for the life of the listener, notifications are only delivered to the session that issued LISTEN
+    private Connection listenConnection;
+
+    public CacheNotificationDaoImpl(NamedParameterJdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+    }
+
+    public void listen() {
+        close();
+
+        try {
+            listenConnection = dataSource.getConnection();
+            listenConnection.setAutoCommit(true);
+
+            try (Statement statement = listenConnection.createStatement()) {
+                statement.execute(LISTEN);
+            }
+            logger.info("Listening for cache evictions on channel {}", CHANNEL);
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Unable to listen on " + CHANNEL, e);
+        }
+    }
+
+    public List<String> getNotifications(int timeoutMillis) {
+        List<String> payloads = new ArrayList<>();
+
+        try {
+            PGNotification[] notifications = listenConnection.unwrap(PGConnection.class).getNotifications(timeoutMillis);
+
+            if (notifications != null) {
+                for (PGNotification notification : notifications) {
+                    payloads.add(notification.getParameter());
+                }
+            }
+        } catch (SQLException e) {
+            throw new DataAccessResourceFailureException("Lost connection listening on " + CHANNEL, e);
+        }
+
+        return payloads;
+    }
+
+    public void sendNotification(String payload) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("payload", payload);
+
+        jdbcTemplate.queryForRowSet(NOTIFY, params);
+    }
+
+    public void close() {
+        if (listenConnection == null) {
+            return;
+        }
+
+        try {
+            listenConnection.close();
+        } catch (SQLException e) {
+            logger.warn("Unable to close cache eviction listener connection", e);
+        }
+        listenConnection = null;
+    }
+}
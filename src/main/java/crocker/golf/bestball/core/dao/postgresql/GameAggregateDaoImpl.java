@@ -0,0 +1,95 @@
+package crocker.golf.bestball.core.dao.postgresql;
+
+import crocker.golf.bestball.core.dao.GameAggregateDao;
+import crocker.golf.bestball.core.mapper.game.TeamRoundMapper;
+import crocker.golf.bestball.core.mapper.game.TeamRowMapper;
+import crocker.golf.bestball.core.mapper.pga.PlayerRoundMapper;
+import crocker.golf.bestball.core.mapper.user.UserRowMapper;
+import crocker.golf.bestball.domain.game.GameAggregate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.RowMapperResultSetExtractor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+public class GameAggregateDaoImpl implements GameAggregateDao {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameAggregateDaoImpl.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TeamRowMapper teamRowMapper;
+
+    private final String TEAMS = "TEAMS";
+    private final String USER_CREDENTIALS = "USER_CREDENTIALS";
+    private final String TEAM_ROUNDS = "TEAM_ROUNDS";
+    private final String PLAYER_ROUNDS = "PLAYER_ROUNDS";
+    private final String SEASON_SCHEDULE = "SEASON_SCHEDULE";
+
+    // both round tables are partitioned by PGA_SEASON, resolving it up front prunes each scan to one partition
+    private final String TOURNAMENT_SEASON = "(SELECT PGA_SEASON FROM " + SEASON_SCHEDULE +
+            " WHERE TOURNAMENT_ID=:tournamentId)";
+
+    private final String GET_TEAMS_BY_GAME_ID = "SELECT * FROM " + TEAMS +
+            " WHERE GAME_ID=:gameId;";
+
+    private final String GET_USERS_BY_GAME_ID = "SELECT * FROM " + USER_CREDENTIALS +
+            " WHERE USER_ID IN (SELECT USER_ID FROM " + TEAMS + " WHERE GAME_ID=:gameId);";
+
+    private final String GET_TEAM_ROUNDS_BY_GAME_ID = "SELECT * FROM " + TEAM_ROUNDS +
+            " WHERE GAME_ID=:gameId AND PGA_SEASON=" + TOURNAMENT_SEASON + ";";
+
+    private final String GET_TEAM_PLAYER_ROUNDS = "SELECT * FROM " + PLAYER_ROUNDS +
+            " WHERE TOURNAMENT_ID=:tournamentId AND PGA_SEASON=" + TOURNAMENT_SEASON + " AND PLAYER_ID IN" +
+            " (SELECT PLAYER_ONE_ID FROM " + TEAMS + " WHERE GAME_ID=:gameId" +
+            " UNION SELECT PLAYER_TWO_ID FROM " + TEAMS + " WHERE GAME_ID=:gameId" +
+            " UNION SELECT PLAYER_THREE_ID FROM " + TEAMS + " WHERE GAME_ID=:gameId" +
+            " UNION SELECT PLAYER_FOUR_ID FROM " + TEAMS + " WHERE GAME_ID=:gameId);";
+
+    // sent as a single multi-statement request so the whole aggregate costs one round trip
+    private final String GET_GAME_AGGREGATE = GET_TEAMS_BY_GAME_ID + GET_USERS_BY_GAME_ID +
+            GET_TEAM_ROUNDS_BY_GAME_ID + GET_TEAM_PLAYER_ROUNDS;
+
+    public GameAggregateDaoImpl(NamedParameterJdbcTemplate jdbcTemplate, TeamRowMapper teamRowMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.teamRowMapper = teamRowMapper;
+    }
+
+    public GameAggregate getGameAggregate(UUID gameId, UUID tournamentId) {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        params.addValue("gameId", gameId);
+        params.addValue("tournamentId", tournamentId);
+
+        return jdbcTemplate.execute(GET_GAME_AGGREGATE, params, (PreparedStatementCallback<GameAggregate>) ps -> {
+            ps.execute();
+
+            GameAggregate.GameAggregateBuilder builder = GameAggregate.builder()
+                    .teams(nextResult(ps, teamRowMapper, false));
+
+            builder.users(nextResult(ps, new UserRowMapper(), true));
+            builder.teamRounds(nextResult(ps, new TeamRoundMapper(), true));
+            builder.playerRounds(nextResult(ps, new PlayerRoundMapper(), true));
+
+            return builder.build();
+        });
+    }
+
+    private <T> List<T> nextResult(PreparedStatement ps, RowMapper<T> rowMapper, boolean advance) throws SQLException {
+        if (advance && !ps.getMoreResults()) {
+            logger.error("Game aggregate query returned fewer result sets than expected");
+            return Collections.emptyList();
+        }
+
+        try (ResultSet rs = ps.getResultSet()) {
+            return new RowMapperResultSetExtractor<>(rowMapper).extractData(rs);
+        }
+    }
+}
@@ -8,6 +8,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.servlet.tags.Param;
 
 import java.util.List;
@@ -20,58 +21,85 @@ public class GameDaoImpl implements GameDao {
     private final NamedParameterJdbcTemplate jdbcTemplate;
 
     private final String GAMES = "GAMES";
+    private final String CURRENT_GAMES = "CURRENT_GAMES";
     private final String SEASON_SCHEDULE = "SEASON_SCHEDULE";
+    private final String DRAFTS = "DRAFTS";
+    private final String CURRENT_DRAFTS = "CURRENT_DRAFTS";
 
     private final String SAVE_NEW_GAME = "INSERT INTO " + GAMES +
             " (GAME_ID, GAME_STATE, GAME_VERSION, GAME_TYPE, DRAFT_ID," +
             " TOURNAMENT_ID, NUM_PLAYERS, BUY_IN, MONEY_POT)" +
             " VALUES(:gameId, :gameState, :gameVersion, :gameType, :draftId, :tournamentId, :numPlayers, :buyIn, :moneyPot);";
 
-    private final String UPDATE_GAME = "UPDATE " + GAMES +
-            " SET GAME_STATE=:gameState, GAME_VERSION=:gameVersion" +
-            " WHERE GAME_ID=:gameId;";
+    private final String SAVE_GAME_VERSION = "INSERT INTO " + GAMES +
+            " (GAME_ID, GAME_STATE, GAME_VERSION, GAME_TYPE, DRAFT_ID," +
+            " TOURNAMENT_ID, NUM_PLAYERS, BUY_IN, MONEY_POT)" +
+            " VALUES(:gameId, :gameState, :gameVersion, :gameType, :draftId, :tournamentId, :numPlayers, :buyIn, :moneyPot)" +
+            " ON CONFLICT (GAME_ID, GAME_VERSION) DO UPDATE SET GAME_STATE=:gameState;";
+
+    private final String UPDATE_CURRENT_GAME = "INSERT INTO " + CURRENT_GAMES +
+            " (GAME_ID, DRAFT_ID, GAME_STATE, GAME_VERSION)" +
+            " VALUES(:gameId, :draftId, :gameState, :gameVersion)" +
+            " ON CONFLICT (GAME_ID) DO UPDATE SET GAME_STATE=:gameState, GAME_VERSION=:gameVersion" +
+            " WHERE " + CURRENT_GAMES + ".GAME_VERSION <= :gameVersion;";
 
     private final String DELETE_GAME = "DELETE FROM " + GAMES +
             " WHERE GAME_ID=:gameId;";
 
-    private final String GET_LATEST_GAME_BY_GAME_ID = "SELECT * FROM " + GAMES +
-            " INNER JOIN " + SEASON_SCHEDULE +
-            " ON " + GAMES + ".TOURNAMENT_ID = " + SEASON_SCHEDULE + ".TOURNAMENT_ID" +
-            " WHERE (GAME_ID, GAME_VERSION) IN" +
-            " (SELECT GAME_ID, MAX(GAME_VERSION) FROM " + GAMES +
-            " WHERE GAME_ID=:gameId GROUP BY GAME_ID);";
+    private final String DELETE_CURRENT_GAME = "DELETE FROM " + CURRENT_GAMES +
+            " WHERE GAME_ID=:gameId;";
 
-    private final String GET_LATEST_GAME_BY_DRAFT_ID = "SELECT * FROM " + GAMES +
+    private final String GET_CURRENT_GAMES = "SELECT " + GAMES + ".*, " + SEASON_SCHEDULE + ".* FROM " + CURRENT_GAMES +
+            " INNER JOIN " + GAMES +
+            " ON " + GAMES + ".GAME_ID = " + CURRENT_GAMES + ".GAME_ID" +
+            " AND " + GAMES + ".GAME_VERSION = " + CURRENT_GAMES + ".GAME_VERSION" +
             " INNER JOIN " + SEASON_SCHEDULE +
-            " ON " + GAMES + ".TOURNAMENT_ID = " + SEASON_SCHEDULE + ".TOURNAMENT_ID" +
-            " WHERE (GAME_ID, GAME_VERSION) IN" +
-            " (SELECT GAME_ID, MAX(GAME_VERSION) FROM " + GAMES +
-            " WHERE DRAFT_ID=:draftId GROUP BY GAME_ID);";
+            " ON " + GAMES + ".TOURNAMENT_ID = " + SEASON_SCHEDULE + ".TOURNAMENT_ID";
 
-    private final String GET_IN_PROGRESS_GAMES = "SELECT * FROM " + GAMES +
-            " INNER JOIN " + SEASON_SCHEDULE +
-            " ON " + GAMES + ".TOURNAMENT_ID = " + SEASON_SCHEDULE + ".TOURNAMENT_ID" +
-            " WHERE GAME_STATE='IN_PROGRESS';";
+    private final String GET_LATEST_GAME_BY_GAME_ID = GET_CURRENT_GAMES +
+            " WHERE " + CURRENT_GAMES + ".GAME_ID=:gameId;";
+
+    private final String GET_LATEST_GAME_BY_DRAFT_ID = GET_CURRENT_GAMES +
+            " WHERE " + CURRENT_GAMES + ".DRAFT_ID=:draftId;";
+
+    private final String GET_IN_PROGRESS_GAMES = GET_CURRENT_GAMES +
+            " WHERE " + CURRENT_GAMES + ".GAME_STATE='IN_PROGRESS';";
+
+    // games whose draft finished without the game being moved on
+    private final String GET_DRAFTED_GAMES_NOT_STARTED = GET_CURRENT_GAMES +
+            " INNER JOIN " + CURRENT_DRAFTS +
+            " ON " + CURRENT_DRAFTS + ".DRAFT_ID = " + CURRENT_GAMES + ".DRAFT_ID" +
+            " INNER JOIN " + DRAFTS +
+            " ON " + DRAFTS + ".DRAFT_ID = " + CURRENT_DRAFTS + ".DRAFT_ID" +
+            " AND " + DRAFTS + ".DRAFT_VERSION = " + CURRENT_DRAFTS + ".DRAFT_VERSION" +
+            " WHERE " + CURRENT_GAMES + ".GAME_STATE='NOT_STARTED'" +
+            " AND " + DRAFTS + ".DRAFT_STATE='COMPLETE';";
 
     public GameDaoImpl(NamedParameterJdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
     }
 
+    @Transactional
     public void saveNewGame(Game game) {
         MapSqlParameterSource params = ParamHelper.getNewGameParams(game);
         jdbcTemplate.update(SAVE_NEW_GAME, params);
+        jdbcTemplate.update(UPDATE_CURRENT_GAME, params);
     }
 
+    @Transactional
     public void updateGames(List<Game> games) {
         MapSqlParameterSource[] params = ParamHelper.getBatchGameParams(games);
 
-        jdbcTemplate.batchUpdate(UPDATE_GAME, params);
+        jdbcTemplate.batchUpdate(SAVE_GAME_VERSION, params);
+        jdbcTemplate.batchUpdate(UPDATE_CURRENT_GAME, params);
     }
 
+    @Transactional
     public void deleteGame(UUID gameId) {
         MapSqlParameterSource params = new MapSqlParameterSource();
         params.addValue("gameId", gameId);
 
+        jdbcTemplate.update(DELETE_CURRENT_GAME, params);
         jdbcTemplate.update(DELETE_GAME, params);
     }
 
@@ -93,4 +121,9 @@ public class GameDaoImpl implements GameDao {
         return jdbcTemplate.query(GET_IN_PROGRESS_GAMES, params, new GameRowMapper());
     }
 
+    public List<Game> getDraftedGamesNotStarted() {
+        MapSqlParameterSource params = new MapSqlParameterSource();
+
+        return jdbcTemplate.query(GET_DRAFTED_GAMES_NOT_STARTED, params, new GameRowMapper());
+    }
 }
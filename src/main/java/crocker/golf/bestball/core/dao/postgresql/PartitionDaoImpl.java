@@ -0,0 +1,30 @@
+package crocker.golf.bestball.core.dao.postgresql;
+
+import crocker.golf.bestball.core.dao.PartitionDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class PartitionDaoImpl implements PartitionDao {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionDaoImpl.class);
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    private final String PLAYER_ROUNDS = "PLAYER_ROUNDS";
+    private final String TEAM_ROUNDS = "TEAM_ROUNDS";
+
+    private final String CREATE_SEASON_PARTITION = "CREATE TABLE IF NOT EXISTS %1$s_%2$d" +
+            " PARTITION OF %1$s FOR VALUES IN (%2$d);";
+
+    public PartitionDaoImpl(NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public void createSeasonPartitions(int season) {
+        logger.info("Ensuring round partitions exist for season {}", season);
+
+        jdbcTemplate.getJdbcOperations().execute(String.format(CREATE_SEASON_PARTITION, PLAYER_ROUNDS, season));
+        jdbcTemplate.getJdbcOperations().execute(String.format(CREATE_SEASON_PARTITION, TEAM_ROUNDS, season));
+    }
+}
@@ -86,16 +86,20 @@ public class PgaDaoImpl implements PgaDao {
     private final String GET_TOURNAMENT_ROUNDS_BY_ID = "SELECT * FROM " + TOURNAMENT_ROUNDS +
             " WHERE TOURNAMENT_ID=:tournamentId;";
 
+    // PLAYER_ROUNDS is partitioned by PGA_SEASON, resolving it from the schedule lets postgres prune to one partition
+    private final String TOURNAMENT_SEASON = "(SELECT PGA_SEASON FROM " + SEASON_SCHEDULE +
+            " WHERE TOURNAMENT_ID=:tournamentId)";
+
     private final String UPDATE_PLAYER_ROUNDS = "INSERT INTO " + PLAYER_ROUNDS +
-            " (PLAYER_ID, TOURNAMENT_ID, ROUND_ID, ROUND_NUMBER, COURSE_ID, TO_PAR, THRU," +
-            " STROKES, SCORES) VALUES(:playerId, :tournamentId, :roundId, :roundNumber," +
-            " :courseId, :toPar, :thru, :strokes, :scores)" +
-            " ON CONFLICT (PLAYER_ID, TOURNAMENT_ID, ROUND_ID) DO UPDATE SET" +
+            " (PLAYER_ID, TOURNAMENT_ID, ROUND_ID, PGA_SEASON, ROUND_NUMBER, COURSE_ID, TO_PAR, THRU," +
+            " STROKES, SCORES) VALUES(:playerId, :tournamentId, :roundId, " + TOURNAMENT_SEASON + "," +
+            " :roundNumber, :courseId, :toPar, :thru, :strokes, :scores)" +
+            " ON CONFLICT (PLAYER_ID, TOURNAMENT_ID, ROUND_ID, PGA_SEASON) DO UPDATE SET" +
             " ROUND_NUMBER=:roundNumber, COURSE_ID=:courseId, TO_PAR=:toPar," +
             " THRU=:thru, STROKES=:strokes, SCORES=:scores;";
 
     private final String GET_PLAYER_ROUNDS_BY_TOURNAMENT_ID = "SELECT * FROM " + PLAYER_ROUNDS +
-            " WHERE TOURNAMENT_ID=:tournamentId;";
+            " WHERE TOURNAMENT_ID=:tournamentId AND PGA_SEASON=" + TOURNAMENT_SEASON + ";";
 
     public PgaDaoImpl(NamedParameterJdbcTemplate jdbcTemplate) {
         this.jdbcTemplate = jdbcTemplate;
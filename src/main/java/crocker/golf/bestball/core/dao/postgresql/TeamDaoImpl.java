@@ -20,6 +20,7 @@ public class TeamDaoImpl implements TeamDao {
 
     private final String TEAMS = "TEAMS";
     private final String TEAM_ROUNDS = "TEAM_ROUNDS";
+    private final String SEASON_SCHEDULE = "SEASON_SCHEDULE";
 
     private final String SAVE_NEW_TEAM = "INSERT INTO " + TEAMS +
             " (TEAM_ID, USER_ID, GAME_ID, DRAFT_ID, TOURNAMENT_ID, TEAM_ROLE)" +
@@ -57,20 +58,30 @@ public class TeamDaoImpl implements TeamDao {
     private final String GET_TEAM_BY_USER_AND_GAME_ID = "SELECT * FROM " + TEAMS +
             " WHERE USER_ID=:userId AND GAME_ID=:gameId;";
 
+    // TEAM_ROUNDS is partitioned by PGA_SEASON, resolving it from the schedule lets postgres prune to one partition
+    private final String TOURNAMENT_SEASON = "(SELECT PGA_SEASON FROM " + SEASON_SCHEDULE +
+            " WHERE TOURNAMENT_ID=:tournamentId)";
+
+    private final String GAME_SEASON = "(SELECT PGA_SEASON FROM " + SEASON_SCHEDULE +
+            " WHERE TOURNAMENT_ID=(SELECT TOURNAMENT_ID FROM " + TEAMS + " WHERE GAME_ID=:gameId LIMIT 1))";
+
+    private final String TEAM_SEASON = "(SELECT PGA_SEASON FROM " + SEASON_SCHEDULE +
+            " WHERE TOURNAMENT_ID=(SELECT TOURNAMENT_ID FROM " + TEAMS + " WHERE TEAM_ID=:teamId LIMIT 1))";
+
     private final String UPDATE_TEAM_ROUNDS = "INSERT INTO " + TEAM_ROUNDS +
-            " (TEAM_ID, GAME_ID, ROUND_ID, TOURNAMENT_ID, ROUND_NUMBER, TO_PAR," +
+            " (TEAM_ID, GAME_ID, ROUND_ID, TOURNAMENT_ID, PGA_SEASON, ROUND_NUMBER, TO_PAR," +
             " STROKES, FRONT_NINE, BACK_NINE, SCORES)" +
-            " VALUES(:teamId, :gameId, :roundId, :tournamentId, :roundNumber, :toPar," +
+            " VALUES(:teamId, :gameId, :roundId, :tournamentId, " + TOURNAMENT_SEASON + ", :roundNumber, :toPar," +
             " :strokes, :frontNine, :backNine, :scores)" +
-            " ON CONFLICT (TEAM_ID, GAME_ID, ROUND_ID) DO UPDATE SET" +
+            " ON CONFLICT (TEAM_ID, GAME_ID, ROUND_ID, PGA_SEASON) DO UPDATE SET" +
             " TO_PAR=:toPar, STROKES=:strokes, FRONT_NINE=:frontNine, BACK_NINE=:backNine," +
             " SCORES=:scores;";
 
     private final String GET_TEAM_ROUNDS_BY_GAME_ID = "SELECT * FROM " + TEAM_ROUNDS +
-            " WHERE GAME_ID=:gameId;";
+            " WHERE GAME_ID=:gameId AND PGA_SEASON=" + GAME_SEASON + ";";
 
     private final String GET_TEAM_ROUNDS_BY_TEAM_ID = "SELECT * FROM " + TEAM_ROUNDS +
-            " WHERE TEAM_ID=:teamId;";
+            " WHERE TEAM_ID=:teamId AND PGA_SEASON=" + TEAM_SEASON + ";";
 
     public TeamDaoImpl(NamedParameterJdbcTemplate jdbcTemplate, TeamRowMapper teamRowMapper) {
         this.jdbcTemplate = jdbcTemplate;
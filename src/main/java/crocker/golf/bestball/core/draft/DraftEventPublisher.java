@@ -0,0 +1,48 @@
+package crocker.golf.bestball.core.draft;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import crocker.golf.bestball.domain.game.draft.DraftPickEvent;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.util.MimeTypeUtils;
+
+import java.util.Collections;
+
+// every pick, made by a user or by the clock, goes out from here once it is in the log
+public class DraftEventPublisher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DraftEventPublisher.class);
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final boolean binaryEnabled;
+    private final ObjectMapper binaryMapper = new ObjectMapper(new CBORFactory());
+
+    public DraftEventPublisher(SimpMessageSendingOperations messagingTemplate, boolean binaryEnabled) {
+        this.messagingTemplate = messagingTemplate;
+        this.binaryEnabled = binaryEnabled;
+    }
+
+    public void publish(DraftRoom room, DraftPickEvent pickEvent) {
+        messagingTemplate.convertAndSend("/ui/refreshDraft/" + room.getDraftId(), pickEvent);
+
+        if (binaryEnabled) {
+            publishBinary(room, pickEvent);
+        }
+    }
+
+    // encoded once per pick however many subscribers there are, octet-stream is what makes stomp send a binary frame
+    private void publishBinary(DraftRoom room, DraftPickEvent pickEvent) {
+        try {
+            byte[] frame = binaryMapper.writeValueAsBytes(room.getPickFrame(pickEvent));
+
+            messagingTemplate.convertAndSend("/ui/refreshDraftBinary/" + room.getDraftId(), frame,
+                    Collections.singletonMap(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_OCTET_STREAM));
+        } catch (JsonProcessingException e) {
+            logger.error("Unable to encode pick {} of draft {}", pickEvent.getSequence(), room.getDraftId(), e);
+        }
+    }
+}
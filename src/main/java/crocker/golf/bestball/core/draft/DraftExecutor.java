@@ -4,11 +4,13 @@ import crocker.golf.bestball.core.repository.DraftRepository;
 import crocker.golf.bestball.core.repository.GameRepository;
 import crocker.golf.bestball.core.repository.PgaRepository;
 import crocker.golf.bestball.core.repository.UserRepository;
+import crocker.golf.bestball.core.service.game.DraftLoader;
 import crocker.golf.bestball.domain.enums.game.ReleaseStatus;
 import crocker.golf.bestball.domain.enums.game.DraftState;
 import crocker.golf.bestball.domain.game.Game;
 import crocker.golf.bestball.domain.game.Team;
 import crocker.golf.bestball.domain.game.draft.Draft;
+import crocker.golf.bestball.domain.game.draft.DraftPool;
 import crocker.golf.bestball.domain.game.draft.DraftSchedule;
 import crocker.golf.bestball.domain.pga.PgaPlayer;
 import crocker.golf.bestball.domain.user.UserCredentials;
@@ -23,53 +25,110 @@ public class DraftExecutor {
 
     private static final Logger logger = LoggerFactory.getLogger(DraftTasklet.class);
 
-    private DraftScheduler draftScheduler;
     private DraftRepository draftRepository;
     private GameRepository gameRepository;
     private PgaRepository pgaRepository;
     private UserRepository userRepository;
+    private DraftLoader draftLoader;
+    private DraftRoomEngine draftRoomEngine;
 
-    public DraftExecutor(DraftScheduler draftScheduler, DraftRepository draftRepository, GameRepository gameRepository, PgaRepository pgaRepository, UserRepository userRepository) {
-        this.draftScheduler = draftScheduler;
+    public DraftExecutor(DraftRepository draftRepository, GameRepository gameRepository, PgaRepository pgaRepository, UserRepository userRepository,
+                         DraftLoader draftLoader, DraftRoomEngine draftRoomEngine) {
         this.draftRepository = draftRepository;
         this.gameRepository = gameRepository;
         this.pgaRepository = pgaRepository;
         this.userRepository = userRepository;
+        this.draftLoader = draftLoader;
+        this.draftRoomEngine = draftRoomEngine;
+    }
+
+    // runs ahead of the release time so the release itself is only a state change
+    public DraftSchedule prepare(DraftSchedule draftSchedule) {
+        logger.info("Preparing draft {} for {}", draftSchedule.getDraftId(), draftSchedule.getReleaseTime());
+
+        Draft draft = draftRepository.getLatestDraftById(draftSchedule.getDraftId());
+
+        if (draft.getDraftState() != DraftState.NOT_STARTED) {
+            return draftSchedule;
+        }
+
+        prepareDraft(draft.getDraftId());
+
+        // loads the order, pool, teams and user info the room is built from into the caches
+        draftLoader.loadEnrichedDraft(draft);
+
+        DraftSchedule preparedSchedule = draftSchedule.toBuilder()
+                .releaseStatus(ReleaseStatus.PREPARED)
+                .build();
+        draftRepository.updateReleaseStatus(preparedSchedule);
+
+        return preparedSchedule;
     }
 
     public void execute(DraftSchedule draftSchedule) {
         logger.info("Executing draft {} at {}", draftSchedule.getDraftId(), draftSchedule.getReleaseTime());
-        releaseDraftSchedule(draftSchedule);
 
         Draft draft = draftRepository.getLatestDraftById(draftSchedule.getDraftId());
 
-        Draft updatedDraft = initiateDraft(draft);
+        // a node that died after starting the draft but before releasing it leaves only the release to do
+        if (draft.getDraftState() == DraftState.NOT_STARTED) {
+            // a schedule claimed too late to be prepared ahead is prepared now
+            if (draftSchedule.getReleaseStatus() != ReleaseStatus.PREPARED) {
+                prepareDraft(draft.getDraftId());
+            } else if (isDraftOrderStale(draft.getDraftId())) {
+                // someone joined or left after the order was fixed, everyone in the game needs a slot in it
+                logger.info("Teams of draft {} changed since it was prepared, rebuilding its draft order", draft.getDraftId());
+                determineDraftOrder(draft.getDraftId());
+            }
+
+            draftRepository.saveDraft(startDraft(draft));
+        } else {
+            logger.info("Draft {} was already started by an earlier claim", draft.getDraftId());
+        }
 
-        draftRepository.saveDraft(updatedDraft);
+        // the room is built before the release so the first snapshots are served from memory
+        draftRoomEngine.loadDraft(draft.getDraftId()).join();
+
+        // released last, so a claim that lapses part way through leaves the draft for another node to finish
+        releaseDraftSchedule(draftSchedule);
 
         // Users will log in, see available in progress draft
         // At this point draft should have order set up, and available players
     }
 
-    private Draft initiateDraft(Draft draft) {
-        Draft updatedDraft = Draft.builder()
+    private void prepareDraft(UUID draftId) {
+        determineDraftOrder(draftId);
+
+        saveDraftPool(draftId);
+    }
+
+    private boolean isDraftOrderStale(UUID draftId) {
+        Set<UUID> teamUserIds = gameRepository.getTeamsByDraftId(draftId).stream()
+                .map(Team::getUserId)
+                .collect(Collectors.toSet());
+        Set<UUID> orderUserIds = draftRepository.getDraftOrderByDraftId(draftId).stream()
+                .map(UserInfo::getUserId)
+                .collect(Collectors.toSet());
+
+        return !teamUserIds.equals(orderUserIds);
+    }
+
+    private Draft startDraft(Draft draft) {
+        return Draft.builder()
                 .draftId(draft.getDraftId())
                 .draftVersion(draft.getDraftVersion() + 1)
                 .draftState(DraftState.IN_PROGRESS)
                 .startTime(draft.getStartTime())
                 .currentPick(1)
+                .draftStyle(draft.getDraftStyle())
+                .rounds(draft.getRounds())
                 .build();
-
-        determineDraftOrder(draft.getDraftId());
-
-        saveDraftablePgaPlayers(draft.getDraftId());
-
-        return updatedDraft;
     }
 
     private void determineDraftOrder(UUID draftId) {
-        List<Team> teams = gameRepository.getTeamsByDraftId(draftId);
-        int numPlayers = teams.size();
+        List<Team> teams = gameRepository.getTeamsByDraftId(draftId).stream()
+                .map(team -> team.toBuilder().build())
+                .collect(Collectors.toList());
 
         /*
         Collections.shuffle(teams);
@@ -118,62 +177,41 @@ public class DraftExecutor {
                             .pickNumber(team.getDraftPick())
                             .build();
                 })
-                .map(userInfo -> Arrays.asList(
-                        userInfo,
-                        getUserInfoRound(userInfo, numPlayers, 2),
-                        getUserInfoRound(userInfo, numPlayers, 3),
-                        getUserInfoRound(userInfo, numPlayers, 4)
-                ))
-                .flatMap(List::stream)
                 .collect(Collectors.toList());
 
+        // only the round one order is saved, DraftOrder works out every later round from it
         draftRepository.saveDraftOrder(draftId, draftOrder);
         gameRepository.updateTeams(teams);
     }
 
-    private UserInfo getUserInfoRound(UserInfo user, int numPlayers, int round) {
-        int pickNumber = determinePickNumber(user, numPlayers, round);
-
-        return UserInfo.builder()
-                .userId(user.getUserId())
-                .userName(user.getUserName())
-                .email(user.getEmail())
-                .pickNumber(pickNumber)
-                .build();
-    }
-
-    private Integer determinePickNumber(UserInfo user, int numPlayers, int round) {
-        //TODO: Unit test PLEASE
-        int roundSum = numPlayers * (2 * round - 2) + 1;
-        int roundPick;
-
-        if(round == 1) {
-            roundPick = user.getPickNumber();
-        } else {
-            roundPick = roundSum - determinePickNumber(user, numPlayers, round - 1);
-        }
-
-        return roundPick;
-    }
-
 
-    private void saveDraftablePgaPlayers(UUID draftId) {
+    private void saveDraftPool(UUID draftId) {
         Game game = gameRepository.getLatestGameByDraftId(draftId);
         UUID tournamentId = game.getTournament().getTournamentId();
-        List<PgaPlayer> tournamentField = pgaRepository.getTournamentField(tournamentId);
-        List<PgaPlayer> worldRankings = pgaRepository.getWorldRankings();
-        List<UUID> worldRankingsPlayerId = worldRankings.stream()
-                .map(PgaPlayer::getPlayerId).collect(Collectors.toList());
-        List<PgaPlayer> draftablePlayers = tournamentField.stream()
-                .filter(pgaPlayer -> worldRankingsPlayerId.contains(pgaPlayer.getPlayerId()))
-                .collect(Collectors.toList());
-        draftRepository.saveDraftablePgaPlayers(draftId, draftablePlayers);
+        DraftPool draftPool = draftRepository.getDraftPool(tournamentId);
+
+        // only the first draft of a tournament builds the pool, the rest start from the same one
+        if (draftPool.isEmpty()) {
+            List<PgaPlayer> tournamentField = pgaRepository.getTournamentField(tournamentId);
+            List<PgaPlayer> worldRankings = pgaRepository.getWorldRankings();
+            Set<UUID> worldRankingsPlayerId = worldRankings.stream()
+                    .map(PgaPlayer::getPlayerId).collect(Collectors.toSet());
+            List<PgaPlayer> draftablePlayers = tournamentField.stream()
+                    .filter(pgaPlayer -> worldRankingsPlayerId.contains(pgaPlayer.getPlayerId()))
+                    .sorted(Comparator.comparing(PgaPlayer::getRank, Comparator.nullsLast(Comparator.naturalOrder())))
+                    .collect(Collectors.toList());
+
+            draftRepository.saveDraftPool(tournamentId, draftablePlayers);
+            draftPool = draftRepository.getDraftPool(tournamentId);
+        }
+
+        draftRepository.saveDraftedPlayers(draftId, draftPool);
     }
 
     private void releaseDraftSchedule(DraftSchedule draftSchedule) {
-        draftScheduler.getTaskMap().remove(draftSchedule.getDraftId());
-
-        draftRepository.updateReleaseStatus(getReleasedDraft(draftSchedule));
+        if (!draftRepository.updateReleaseStatus(getReleasedDraft(draftSchedule))) {
+            logger.warn("Claim on draft {} by {} lapsed before it was released", draftSchedule.getDraftId(), draftSchedule.getClaimedBy());
+        }
     }
 
     private DraftSchedule getReleasedDraft(DraftSchedule draftSchedule) {
@@ -181,6 +219,7 @@ public class DraftExecutor {
                 .draftId(draftSchedule.getDraftId())
                 .releaseTime(draftSchedule.getReleaseTime())
                 .releaseStatus(ReleaseStatus.RELEASED)
+                .claimedBy(draftSchedule.getClaimedBy())
                 .build();
     }
 }
@@ -0,0 +1,128 @@
+package crocker.golf.bestball.core.draft;
+
+import crocker.golf.bestball.core.repository.DraftRepository;
+import crocker.golf.bestball.core.repository.GameRepository;
+import crocker.golf.bestball.domain.enums.game.DraftState;
+import crocker.golf.bestball.domain.enums.game.GameState;
+import crocker.golf.bestball.domain.game.Game;
+import crocker.golf.bestball.domain.game.Team;
+import crocker.golf.bestball.domain.game.draft.Draft;
+import crocker.golf.bestball.domain.game.draft.DraftPick;
+import crocker.golf.bestball.domain.game.draft.DraftPool;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// writes the teams, draft pool and draft rows that follow from logged picks behind the draft rooms, so a shard thread
+// never waits on them. a draft always goes to the same writer, so its picks are written in log order
+public class DraftProjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(DraftProjector.class);
+
+    private final DraftRepository draftRepository;
+    private final GameRepository gameRepository;
+    private final int writers;
+
+    private final List<ExecutorService> executors = new ArrayList<>();
+    // the last pick written through for each draft, whatever a failed write missed goes out with the next one
+    private final Map<UUID, Integer> writtenThrough = new ConcurrentHashMap<>();
+
+    public DraftProjector(DraftRepository draftRepository, GameRepository gameRepository, int writers) {
+        this.draftRepository = draftRepository;
+        this.gameRepository = gameRepository;
+        this.writers = writers;
+    }
+
+    public void start() {
+        for (int i = 0; i < writers; i++) {
+            String threadName = "draft-writer-" + i;
+            executors.add(Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, threadName)));
+        }
+        logger.info("Started draft projector with {} writers", writers);
+    }
+
+    public void stop() throws InterruptedException {
+        executors.forEach(ExecutorService::shutdown);
+
+        for (ExecutorService executor : executors) {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    // the draft and picks are a snapshot of the room taken on its shard thread, picks from fromPick on are not written yet
+    public void project(Draft draft, DraftPool draftPool, List<DraftPick> draftPicks, int fromPick) {
+        UUID draftId = draft.getDraftId();
+        executors.get(Math.floorMod(draftId.hashCode(), writers)).execute(() -> write(draft, draftPool, draftPicks, fromPick));
+    }
+
+    private void write(Draft draft, DraftPool draftPool, List<DraftPick> draftPicks, int fromPick) {
+        UUID draftId = draft.getDraftId();
+        // a room reloaded while its writes were queued asks for picks again that are written by now
+        int from = writtenThrough.getOrDefault(draftId, fromPick - 1) + 1;
+
+        if (from > draftPicks.size()) {
+            return;
+        }
+
+        try {
+            List<DraftPick> unwritten = draftPicks.subList(from - 1, draftPicks.size());
+            Map<UUID, Team> teams = draft.getTeams().stream().collect(Collectors.toMap(Team::getUserId, Function.identity()));
+
+            unwritten.stream()
+                    .map(DraftPick::getUserId)
+                    .distinct()
+                    .forEach(userId -> gameRepository.updateTeam(teams.get(userId)));
+
+            for (DraftPick draftPick : unwritten) {
+                int poolIndex = draftPool.indexOf(draftPick.getPlayerId());
+                if (poolIndex >= 0) {
+                    draftRepository.draftPlayer(draftId, poolIndex);
+                }
+            }
+
+            saveDraft(draft);
+
+            if (draft.getDraftState() == DraftState.COMPLETE) {
+                startGame(draftId);
+                writtenThrough.remove(draftId);
+            } else {
+                writtenThrough.put(draftId, draftPicks.size());
+            }
+        } catch (Exception e) {
+            // the log is still right, the next pick or the next load of the room writes these picks again
+            logger.error("Unable to write picks {} to {} of draft {} through to the draft tables", from, draftPicks.size(), draftId, e);
+            writtenThrough.put(draftId, from - 1);
+        }
+    }
+
+    // a room replayed from tables that were still behind its queued writes asks for a version that is stored by now
+    private void saveDraft(Draft draft) {
+        try {
+            draftRepository.saveDraft(draft);
+        } catch (DuplicateKeyException e) {
+            logger.info("Version {} of draft {} is already written", draft.getDraftVersion(), draft.getDraftId());
+        }
+    }
+
+    // checked whether or not this write stored the complete draft, a start that failed after it was stored is
+    // finished here or by the game update sweep (GameManagerService.startDraftedGames)
+    private void startGame(UUID draftId) {
+        Game game = gameRepository.getLatestGameByDraftId(draftId);
+
+        if (game.getGameState() == GameState.NOT_STARTED) {
+            gameRepository.updateGames(Collections.singletonList(game.updateGameState(GameState.IN_PROGRESS)));
+        }
+    }
+}
@@ -0,0 +1,288 @@
+package crocker.golf.bestball.core.draft;
+
+import crocker.golf.bestball.core.util.TimeHelper;
+import crocker.golf.bestball.domain.enums.game.DraftState;
+import crocker.golf.bestball.domain.enums.game.DraftStyle;
+import crocker.golf.bestball.domain.exceptions.game.DraftPickException;
+import crocker.golf.bestball.domain.game.Team;
+import crocker.golf.bestball.domain.game.draft.Draft;
+import crocker.golf.bestball.domain.game.draft.DraftOrder;
+import crocker.golf.bestball.domain.game.draft.DraftPick;
+import crocker.golf.bestball.domain.game.draft.DraftPickEvent;
+import crocker.golf.bestball.domain.game.draft.DraftPickFrame;
+import crocker.golf.bestball.domain.game.draft.DraftPool;
+import crocker.golf.bestball.domain.pga.PgaPlayer;
+import crocker.golf.bestball.domain.user.UserInfo;
+import io.netty.util.Timeout;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// live state of one in progress draft, owned by a single DraftRoomEngine shard thread and never shared
+public class DraftRoom {
+
+    private final UUID draftId;
+    private final LocalDateTime startTime;
+    private final Integer maxPlayers;
+    private final DraftPool draftPool;
+    private final DraftStyle draftStyle;
+    private final DraftOrder draftOrder;
+    // what clients are sent, worked out once from the draft order
+    private final Map<Integer, UserInfo> pickMap;
+    private final Duration pickClock;
+
+    private final Map<UUID, Team> teamsByUserId = new LinkedHashMap<>();
+    private final BitSet drafted = new BitSet();
+    private final Set<UUID> draftedPlayerIds = new HashSet<>();
+    private final List<DraftPick> draftPicks = new ArrayList<>();
+    // one per pick, index i holds sequence i + 1
+    private final List<DraftPickEvent> pickEvents = new ArrayList<>();
+    // players each user wants taken for them, best first, when their clock runs out
+    private final Map<UUID, List<UUID>> pickQueues = new HashMap<>();
+    // the latest picks by client request id, a retry is answered from here instead of being judged again
+    private final Map<UUID, DraftPickEvent> requestEvents;
+
+    // the version the draft had when the first pick was on the clock, every pick after it adds one
+    private final int baseVersion;
+    private DraftState draftState;
+    private LocalDateTime pickDeadline;
+    private Timeout pickTimeout;
+
+    public DraftRoom(Draft draft, DraftOrder draftOrder, DraftPool draftPool, Duration pickClock, int requestWindow) {
+        this.draftId = draft.getDraftId();
+        this.startTime = draft.getStartTime();
+        this.maxPlayers = draft.getMaxPlayers();
+        this.draftPool = draftPool;
+        this.draftStyle = draft.getDraftStyle();
+        this.draftOrder = draftOrder;
+        this.pickMap = draftOrder.toPickMap();
+        this.pickClock = pickClock;
+        this.requestEvents = new LinkedHashMap<UUID, DraftPickEvent>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<UUID, DraftPickEvent> eldest) {
+                return size() > requestWindow;
+            }
+        };
+        this.baseVersion = draft.getDraftVersion() - (draft.getCurrentPick() - 1);
+        this.draftState = draft.getDraftState();
+        // the first pick is on the clock from the start time, every later one from the pick before it
+        this.pickDeadline = (startTime != null ? startTime : TimeHelper.getCurrentTime()).plus(pickClock);
+
+        // golfers come back from the pick log, whatever the teams table holds may be behind it
+        draft.getTeams().forEach(team -> teamsByUserId.put(team.getUserId(), team.toBuilder()
+                .golferOne(null)
+                .golferTwo(null)
+                .golferThree(null)
+                .golferFour(null)
+                .build()));
+    }
+
+    public UUID getDraftId() {
+        return draftId;
+    }
+
+    public DraftPool getDraftPool() {
+        return draftPool;
+    }
+
+    public int getCurrentPick() {
+        return draftPicks.size() + 1;
+    }
+
+    public int getDraftVersion() {
+        return baseVersion + draftPicks.size();
+    }
+
+    public boolean isComplete() {
+        return draftState == DraftState.COMPLETE;
+    }
+
+    public List<DraftPick> getDraftPicks() {
+        return Collections.unmodifiableList(draftPicks);
+    }
+
+    public LocalDateTime getPickDeadline() {
+        return pickDeadline;
+    }
+
+    public UserInfo getOnTheClock() {
+        return draftOrder.getUser(getCurrentPick());
+    }
+
+    public Team getTeam(UUID userId) {
+        return teamsByUserId.get(userId);
+    }
+
+    public List<DraftPickEvent> getPickEvents(int sinceSequence) {
+        return pickEvents.stream()
+                .skip(Math.max(sinceSequence, 0))
+                .collect(Collectors.toList());
+    }
+
+    public DraftPickEvent getRequestEvent(UUID requestId) {
+        return requestId == null ? null : requestEvents.get(requestId);
+    }
+
+    // keeps the players still in the pool and not yet drafted, in the order given
+    public List<UUID> setPickQueue(UUID userId, List<UUID> playerIds) {
+        List<UUID> pickQueue = playerIds.stream()
+                .distinct()
+                .filter(playerId -> draftPool.indexOf(playerId) >= 0 && !draftedPlayerIds.contains(playerId))
+                .collect(Collectors.toList());
+
+        pickQueues.put(userId, pickQueue);
+
+        return Collections.unmodifiableList(pickQueue);
+    }
+
+    // the first queued player still available, otherwise the best ranked player left in the pool
+    public PgaPlayer getAutoPick() {
+        UserInfo onTheClock = getOnTheClock();
+
+        if (onTheClock != null) {
+            for (UUID playerId : pickQueues.getOrDefault(onTheClock.getUserId(), Collections.emptyList())) {
+                if (!draftedPlayerIds.contains(playerId)) {
+                    return draftPool.getPgaPlayer(playerId);
+                }
+            }
+        }
+
+        int poolIndex = drafted.nextClearBit(0);
+        return poolIndex < draftPool.size() ? draftPool.getPgaPlayer(poolIndex) : null;
+    }
+
+    public void setPickTimeout(Timeout pickTimeout) {
+        cancelPickTimeout();
+        this.pickTimeout = pickTimeout;
+    }
+
+    public void cancelPickTimeout() {
+        if (pickTimeout != null) {
+            pickTimeout.cancel();
+            pickTimeout = null;
+        }
+    }
+
+    public DraftPick validatePick(UUID userId, PgaPlayer pgaPlayer, UUID requestId) throws DraftPickException {
+        if (draftState != DraftState.IN_PROGRESS) {
+            throw new DraftPickException("Draft " + draftId + " is " + draftState);
+        }
+
+        UserInfo onTheClock = getOnTheClock();
+
+        if (onTheClock == null || !onTheClock.getUserId().equals(userId)) {
+            throw new DraftPickException("Pick " + getCurrentPick() + " of draft " + draftId + " does not belong to user " + userId);
+        }
+
+        if (draftedPlayerIds.contains(pgaPlayer.getPlayerId())) {
+            throw new DraftPickException("Player " + pgaPlayer.getPlayerId() + " was already drafted in draft " + draftId);
+        }
+
+        return DraftPick.builder()
+                .draftId(draftId)
+                .pickNumber(getCurrentPick())
+                .userId(userId)
+                .playerId(pgaPlayer.getPlayerId())
+                .pickedAt(TimeHelper.getCurrentTime())
+                .requestId(requestId)
+                .build();
+    }
+
+    public DraftPickEvent apply(DraftPick draftPick, PgaPlayer pgaPlayer) {
+        Team team = withGolfer(teamsByUserId.get(draftPick.getUserId()), pgaPlayer);
+        teamsByUserId.put(draftPick.getUserId(), team);
+
+        int poolIndex = draftPool.indexOf(pgaPlayer.getPlayerId());
+        if (poolIndex >= 0) {
+            drafted.set(poolIndex);
+        }
+
+        draftedPlayerIds.add(pgaPlayer.getPlayerId());
+        draftPicks.add(draftPick);
+
+        if (draftPicks.size() >= draftOrder.getTotalPicks()) {
+            draftState = DraftState.COMPLETE;
+        }
+
+        pickDeadline = draftState == DraftState.COMPLETE ? null : draftPick.getPickedAt().plus(pickClock);
+
+        DraftPickEvent pickEvent = DraftPickEvent.builder()
+                .draftId(draftId)
+                .sequence(draftPick.getPickNumber())
+                .requestId(draftPick.getRequestId())
+                .userId(draftPick.getUserId())
+                .teamId(team.getTeamId())
+                .playerId(pgaPlayer.getPlayerId())
+                .playerName(pgaPlayer.getPlayerName())
+                .playerRank(pgaPlayer.getRank())
+                .draftState(draftState)
+                .pickDeadline(pickDeadline)
+                .build();
+        pickEvents.add(pickEvent);
+
+        if (draftPick.getRequestId() != null) {
+            requestEvents.put(draftPick.getRequestId(), pickEvent);
+        }
+
+        return pickEvent;
+    }
+
+    public DraftPickFrame getPickFrame(DraftPickEvent pickEvent) {
+        int poolIndex = draftPool.indexOf(pickEvent.getPlayerId());
+        LocalDateTime deadline = pickEvent.getPickDeadline();
+
+        return DraftPickFrame.builder()
+                .sequence(pickEvent.getSequence())
+                .teamSlot(draftOrder.getSlot(pickEvent.getSequence()))
+                .playerIndex(poolIndex < 0 ? null : poolIndex)
+                .playerId(poolIndex < 0 ? pickEvent.getPlayerId() : null)
+                .draftState(pickEvent.getDraftState())
+                .pickDeadline(deadline == null ? null : TimeHelper.getZonedDateTime(deadline).toInstant().toEpochMilli())
+                .build();
+    }
+
+    public Draft toDraft() {
+        return Draft.builder()
+                .draftId(draftId)
+                .draftState(draftState)
+                .draftVersion(getDraftVersion())
+                .startTime(startTime)
+                .currentPick(getCurrentPick())
+                .draftStyle(draftStyle)
+                .rounds(draftOrder.getRounds())
+                .pickDeadline(pickDeadline)
+                .maxPlayers(maxPlayers)
+                .availablePgaPlayers(draftPool.getAvailablePgaPlayers(drafted))
+                .poolPlayerIds(draftPool.getPlayerIds())
+                .draftOrder(pickMap)
+                .teams(new ArrayList<>(teamsByUserId.values()))
+                .build();
+    }
+
+    private Team withGolfer(Team team, PgaPlayer pgaPlayer) {
+        Team.TeamBuilder builder = team.toBuilder();
+
+        if (team.getGolferOne() == null) {
+            builder.golferOne(pgaPlayer);
+        } else if (team.getGolferTwo() == null) {
+            builder.golferTwo(pgaPlayer);
+        } else if (team.getGolferThree() == null) {
+            builder.golferThree(pgaPlayer);
+        } else {
+            builder.golferFour(pgaPlayer);
+        }
+
+        return builder.build();
+    }
+}
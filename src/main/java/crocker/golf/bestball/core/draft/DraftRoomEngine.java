@@ -0,0 +1,437 @@
+package crocker.golf.bestball.core.draft;
+
+import crocker.golf.bestball.core.repository.DraftRepository;
+import crocker.golf.bestball.core.repository.GameRepository;
+import crocker.golf.bestball.core.repository.PgaRepository;
+import crocker.golf.bestball.core.service.game.DraftLoader;
+import crocker.golf.bestball.core.util.TimeHelper;
+import crocker.golf.bestball.domain.enums.game.DraftState;
+import crocker.golf.bestball.domain.enums.game.GameState;
+import crocker.golf.bestball.domain.exceptions.game.DraftPickException;
+import crocker.golf.bestball.domain.game.Game;
+import crocker.golf.bestball.domain.game.draft.Draft;
+import crocker.golf.bestball.domain.game.draft.DraftPick;
+import crocker.golf.bestball.domain.game.draft.DraftPickEvent;
+import crocker.golf.bestball.domain.game.draft.DraftPool;
+import crocker.golf.bestball.domain.pga.PgaPlayer;
+import crocker.golf.bestball.domain.user.UserInfo;
+import io.netty.util.HashedWheelTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// every draft is pinned to one single threaded shard, so its picks are applied one at a time in arrival order
+public class DraftRoomEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(DraftRoomEngine.class);
+
+    private final DraftLoader draftLoader;
+    private final DraftRepository draftRepository;
+    private final GameRepository gameRepository;
+    private final PgaRepository pgaRepository;
+    private final DraftEventPublisher draftEventPublisher;
+    private final DraftProjector draftProjector;
+    private final int shards;
+    private final Duration pickClock;
+    private final long tickMillis;
+    private final int requestWindow;
+
+    private final List<ExecutorService> executors = new ArrayList<>();
+    // each map is only touched by the thread of the shard it belongs to
+    private final List<Map<UUID, DraftRoom>> rooms = new ArrayList<>();
+    // one timer thread keeps every pick clock, expiry only hands the auto pick to the draft's shard
+    private HashedWheelTimer pickTimer;
+
+    public DraftRoomEngine(DraftLoader draftLoader, DraftRepository draftRepository, GameRepository gameRepository, PgaRepository pgaRepository,
+                           DraftEventPublisher draftEventPublisher, DraftProjector draftProjector, int shards, long pickClockMillis, long tickMillis,
+                           int requestWindow) {
+        this.draftLoader = draftLoader;
+        this.draftRepository = draftRepository;
+        this.gameRepository = gameRepository;
+        this.pgaRepository = pgaRepository;
+        this.draftEventPublisher = draftEventPublisher;
+        this.draftProjector = draftProjector;
+        this.shards = shards;
+        this.pickClock = Duration.ofMillis(pickClockMillis);
+        this.tickMillis = tickMillis;
+        this.requestWindow = requestWindow;
+    }
+
+    public void start() {
+        pickTimer = new HashedWheelTimer(runnable -> {
+            Thread thread = new Thread(runnable, "draft-pick-clock");
+            thread.setDaemon(true);
+            return thread;
+        }, tickMillis, TimeUnit.MILLISECONDS);
+
+        for (int i = 0; i < shards; i++) {
+            String threadName = "draft-room-" + i;
+            executors.add(Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, threadName)));
+            rooms.add(new HashMap<>());
+        }
+        logger.info("Started draft room engine with {} shards", shards);
+    }
+
+    public void stop() throws InterruptedException {
+        pickTimer.stop();
+        executors.forEach(ExecutorService::shutdown);
+
+        for (ExecutorService executor : executors) {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    public CompletableFuture<Draft> loadDraft(UUID draftId) {
+        CompletableFuture<Draft> result = new CompletableFuture<>();
+
+        onShard(draftId, result, () -> {
+            DraftRoom room = getRoom(draftId);
+            result.complete(room == null ? null : room.toDraft());
+        });
+
+        return result;
+    }
+
+    public CompletableFuture<DraftPickEvent> draftPlayer(UUID draftId, UUID userId, UUID playerId, UUID requestId) {
+        CompletableFuture<DraftPickEvent> result = new CompletableFuture<>();
+
+        onShard(draftId, result, () -> {
+            DraftRoom room = catchUp(getRoom(draftId));
+            // a retried request gets the pick it made the first time, even if that pick finished the draft
+            DraftPickEvent requestEvent = getRequestEvent(draftId, room, requestId);
+
+            if (requestEvent != null) {
+                logger.info("Request {} already made pick {} of draft {}", requestId, requestEvent.getSequence(), draftId);
+                result.complete(requestEvent);
+                return;
+            }
+
+            room = requireRoom(draftId);
+            PgaPlayer pgaPlayer = getPgaPlayer(room.getDraftPool(), playerId);
+
+            if (pgaPlayer == null) {
+                throw new DraftPickException("Player " + playerId + " is not in the field for draft " + draftId);
+            }
+
+            result.complete(pick(room, userId, pgaPlayer, requestId, true));
+        });
+
+        return result;
+    }
+
+    public CompletableFuture<List<UUID>> setPickQueue(UUID draftId, UUID userId, List<UUID> playerIds) {
+        CompletableFuture<List<UUID>> result = new CompletableFuture<>();
+
+        onShard(draftId, result, () -> {
+            List<UUID> pickQueue = requireRoom(draftId).setPickQueue(userId, playerIds);
+            draftRepository.savePickQueue(draftId, userId, pickQueue);
+
+            result.complete(pickQueue);
+        });
+
+        return result;
+    }
+
+    public CompletableFuture<List<DraftPickEvent>> getPickEvents(UUID draftId, int sinceSequence) {
+        CompletableFuture<List<DraftPickEvent>> result = new CompletableFuture<>();
+
+        onShard(draftId, result, () -> {
+            DraftRoom room = getRoom(draftId);
+
+            if (room == null) {
+                // finished drafts have no room, their events are replayed from the log without keeping one
+                Draft draft = draftRepository.getLatestDraftById(draftId);
+                room = draft == null ? null : replayRoom(draft);
+            }
+
+            result.complete(room == null ? Collections.emptyList() : room.getPickEvents(sinceSequence));
+        });
+
+        return result;
+    }
+
+    private void onShard(UUID draftId, CompletableFuture<?> result, ShardTask task) {
+        executors.get(shardOf(draftId)).execute(() -> {
+            try {
+                task.run();
+            } catch (DraftPickException e) {
+                result.completeExceptionally(e);
+            } catch (Exception e) {
+                // a room that failed mid task may be out of step with the log, the next request rebuilds it
+                closeRoom(draftId);
+                result.completeExceptionally(e);
+            }
+        });
+    }
+
+    private void autoPick(UUID draftId, int pickNumber) throws DraftPickException {
+        DraftRoom room = getRooms(draftId).get(draftId);
+
+        // the pick was made before the clock ran out or the room has closed since
+        if (room == null || room.getCurrentPick() != pickNumber) {
+            return;
+        }
+
+        // another node may have made this pick, reloading starts the clock for whichever pick is next
+        if (catchUp(room) != room) {
+            return;
+        }
+
+        UserInfo onTheClock = room.getOnTheClock();
+
+        // the user may have changed their queue through another node since this room loaded it
+        if (onTheClock != null) {
+            List<UUID> pickQueue = draftRepository.getPickQueuesByDraftId(draftId).getOrDefault(onTheClock.getUserId(), Collections.emptyList());
+            room.setPickQueue(onTheClock.getUserId(), pickQueue);
+        }
+
+        PgaPlayer pgaPlayer = room.getAutoPick();
+
+        if (onTheClock == null || pgaPlayer == null) {
+            logger.error("Nothing left to auto pick for pick {} of draft {}", pickNumber, draftId);
+            return;
+        }
+
+        logger.info("Pick clock expired for pick {} of draft {}, auto picking player {}", pickNumber, draftId, pgaPlayer.getPlayerId());
+        // another node's clock may have made this pick already, the user could be on the clock again right after it
+        pick(room, onTheClock.getUserId(), pgaPlayer, null, false);
+    }
+
+    private DraftPickEvent pick(DraftRoom room, UUID userId, PgaPlayer pgaPlayer, UUID requestId, boolean retry) throws DraftPickException {
+        UUID draftId = room.getDraftId();
+        DraftPick draftPick = room.validatePick(userId, pgaPlayer, requestId);
+
+        if (!appendPick(draftPick)) {
+            if (!retry) {
+                // reloading takes in the other node's pick and puts the next one on the clock
+                closeRoom(draftId);
+                getRoom(draftId);
+                throw new DraftPickException("Pick " + draftPick.getPickNumber() + " of draft " + draftId + " was taken by another node");
+            }
+
+            // another node got to this pick number first, catch up from the log and judge the pick again
+            closeRoom(draftId);
+            room = getRoom(draftId);
+
+            // the same request was sent to another node as well and logged there
+            DraftPickEvent requestEvent = getRequestEvent(draftId, room, requestId);
+            if (requestEvent != null) {
+                return requestEvent;
+            }
+
+            room = requireRoom(draftId);
+            draftPick = room.validatePick(userId, pgaPlayer, requestId);
+
+            if (!appendPick(draftPick)) {
+                throw new DraftPickException("Pick " + draftPick.getPickNumber() + " of draft " + draftId + " was taken by another node");
+            }
+        }
+
+        // published from the shard thread, so subscribers see the picks of a draft in log order
+        DraftPickEvent pickEvent = room.apply(draftPick, pgaPlayer);
+        draftEventPublisher.publish(room, pickEvent);
+
+        // the pick is durable once it is in the log, the tables derived from it are written behind the room
+        project(room, draftPick.getPickNumber());
+
+        if (room.isComplete()) {
+            closeRoom(draftId);
+            logger.info("Draft {} complete, closed its room", draftId);
+        } else if (getRooms(draftId).get(draftId) == room) {
+            startPickClock(room);
+        }
+        return pickEvent;
+    }
+
+    private void startPickClock(DraftRoom room) {
+        UUID draftId = room.getDraftId();
+        int pickNumber = room.getCurrentPick();
+        long delay = Math.max(0, Duration.between(TimeHelper.getCurrentTime(), room.getPickDeadline()).toMillis());
+
+        room.setPickTimeout(pickTimer.newTimeout(timeout -> {
+            CompletableFuture<Void> result = new CompletableFuture<>();
+            result.exceptionally(e -> {
+                logger.error("Auto pick {} of draft {} failed", pickNumber, draftId, e);
+                return null;
+            });
+
+            onShard(draftId, result, () -> {
+                autoPick(draftId, pickNumber);
+                result.complete(null);
+            });
+        }, delay, TimeUnit.MILLISECONDS));
+    }
+
+    private void closeRoom(UUID draftId) {
+        DraftRoom room = getRooms(draftId).remove(draftId);
+
+        if (room != null) {
+            room.cancelPickTimeout();
+        }
+    }
+
+    private boolean appendPick(DraftPick draftPick) {
+        try {
+            draftRepository.saveDraftPick(draftPick);
+            return true;
+        } catch (DuplicateKeyException e) {
+            logger.warn("Pick {} of draft {} is already in the log", draftPick.getPickNumber(), draftPick.getDraftId());
+            return false;
+        }
+    }
+
+    // a room only hears of its own node's picks, the head of the log says whether another node has moved the draft on
+    private DraftRoom catchUp(DraftRoom room) {
+        if (room == null) {
+            return null;
+        }
+
+        UUID draftId = room.getDraftId();
+        int latestPickNumber = draftRepository.getLatestPickNumber(draftId);
+
+        if (latestPickNumber < room.getCurrentPick()) {
+            return room;
+        }
+
+        logger.info("Draft room {} is at pick {} but the log has reached pick {}, reloading it", draftId, room.getCurrentPick(), latestPickNumber);
+        closeRoom(draftId);
+        return getRoom(draftId);
+    }
+
+    private DraftPickEvent getRequestEvent(UUID draftId, DraftRoom room, UUID requestId) throws DraftPickException {
+        if (room != null) {
+            return requestId == null ? null : room.getRequestEvent(requestId);
+        }
+
+        Draft draft = draftRepository.getLatestDraftById(draftId);
+
+        // a draft that has not started has no picks to find, turn it away before anything else is loaded
+        if (draft == null || draft.getDraftState() == DraftState.NOT_STARTED) {
+            throw new DraftPickException("Draft " + draftId + " is not in progress");
+        }
+
+        if (requestId == null || draft.getDraftState() != DraftState.COMPLETE || isGameComplete(draftId)) {
+            return null;
+        }
+
+        // the draft has finished and closed its room, its picks are still in the log. once its game is over the draft
+        // can be archived with its order gone, so only a draft whose game is still being played is replayed
+        return replayRoom(draft).getRequestEvent(requestId);
+    }
+
+    private boolean isGameComplete(UUID draftId) {
+        Game game = gameRepository.getLatestGameByDraftId(draftId);
+        return game == null || game.getGameState() == GameState.COMPLETE;
+    }
+
+    private DraftRoom requireRoom(UUID draftId) throws DraftPickException {
+        DraftRoom room = getRoom(draftId);
+
+        if (room == null) {
+            throw new DraftPickException("Draft " + draftId + " is not in progress");
+        }
+        return room;
+    }
+
+    private DraftRoom getRoom(UUID draftId) {
+        Map<UUID, DraftRoom> shardRooms = getRooms(draftId);
+        DraftRoom room = shardRooms.get(draftId);
+
+        if (room == null) {
+            room = loadRoom(draftId);
+
+            if (room != null && !room.isComplete()) {
+                shardRooms.put(draftId, room);
+                startPickClock(room);
+            }
+        }
+        return room;
+    }
+
+    private DraftRoom loadRoom(UUID draftId) {
+        Draft draft = draftRepository.getLatestDraftById(draftId);
+
+        if (draft == null || draft.getDraftState() != DraftState.IN_PROGRESS) {
+            return null;
+        }
+
+        DraftRoom room = replayRoom(draft);
+
+        // picks made before the log existed have to be written to it first, a room started from pick one would hand
+        // them out again and overwrite the golfers the teams already hold
+        if (room.getCurrentPick() < draft.getCurrentPick()) {
+            logger.error("Draft {} is at pick {} but its pick log only reaches pick {}, not loading its room",
+                    draftId, draft.getCurrentPick(), room.getCurrentPick() - 1);
+            return null;
+        }
+
+        draftRepository.getPickQueuesByDraftId(draftId).forEach(room::setPickQueue);
+
+        // the node that logged these picks stopped before writing what follows from them
+        if (draft.getCurrentPick() < room.getCurrentPick()) {
+            logger.info("Draft {} is behind its pick log, catching up from pick {}", draftId, draft.getCurrentPick());
+            project(room, draft.getCurrentPick());
+        }
+
+        logger.info("Loaded draft room {} at pick {}", draftId, room.getCurrentPick());
+        return room;
+    }
+
+    private DraftRoom replayRoom(Draft draft) {
+        Game game = gameRepository.getLatestGameByDraftId(draft.getDraftId());
+        DraftPool draftPool = draftRepository.getDraftPool(game.getTournament().getTournamentId());
+        DraftRoom room = new DraftRoom(draftLoader.loadEnrichedDraft(draft), draftLoader.loadDraftOrder(draft), draftPool, pickClock, requestWindow);
+
+        draftRepository.getDraftPicksByDraftId(draft.getDraftId()).forEach(draftPick -> {
+            PgaPlayer pgaPlayer = getPgaPlayer(draftPool, draftPick.getPlayerId());
+            // a logged pick always stands, even if the player has since left the field
+            room.apply(draftPick, pgaPlayer != null ? pgaPlayer : PgaPlayer.builder().playerId(draftPick.getPlayerId()).build());
+        });
+
+        return room;
+    }
+
+    private void project(DraftRoom room, int fromPick) {
+        draftProjector.project(room.toDraft(), room.getDraftPool(), new ArrayList<>(room.getDraftPicks()), fromPick);
+    }
+
+    private PgaPlayer getPgaPlayer(DraftPool draftPool, UUID playerId) {
+        PgaPlayer pgaPlayer = draftPool.getPgaPlayer(playerId);
+
+        if (pgaPlayer != null) {
+            return pgaPlayer;
+        }
+
+        // to do -> all get tournament field joins on world golf rankings which is only top 200. need another updater to save ALL pga players
+        logger.error("Player {} not in the draft pool. Seeking player from tournament field for tournament {}", playerId, draftPool.getTournamentId());
+
+        return pgaRepository.getTournamentField(draftPool.getTournamentId()).stream()
+                .filter(player -> player.getPlayerId().equals(playerId))
+                .findFirst()
+                .orElse(null);
+    }
+
+    private Map<UUID, DraftRoom> getRooms(UUID draftId) {
+        return rooms.get(shardOf(draftId));
+    }
+
+    private int shardOf(UUID draftId) {
+        return Math.floorMod(draftId.hashCode(), shards);
+    }
+
+    private interface ShardTask {
+        void run() throws Exception;
+    }
+}
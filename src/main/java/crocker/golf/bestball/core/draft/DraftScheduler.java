@@ -2,77 +2,118 @@ package crocker.golf.bestball.core.draft;
 
 import crocker.golf.bestball.core.repository.DraftRepository;
 import crocker.golf.bestball.core.util.TimeHelper;
-import crocker.golf.bestball.domain.enums.game.ReleaseStatus;
 import crocker.golf.bestball.domain.game.draft.DraftSchedule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.BeansException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
-import org.springframework.context.ApplicationContextAware;
 import org.springframework.scheduling.TaskScheduler;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.time.ZonedDateTime;
 import java.util.List;
-import java.util.Map;
 import java.util.UUID;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.Future;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+// DRAFT_SCHEDULES is the schedule, every node polls it and a draft is released by whichever node holds its lease
 public class DraftScheduler {
 
     private static final Logger logger = LoggerFactory.getLogger(DraftScheduler.class);
 
-    private TaskScheduler taskScheduler;
-    private Map<UUID, ScheduledFuture<?>> taskMap = new ConcurrentHashMap<>();
-    private DraftRepository draftRepository;
+    private final TaskScheduler taskScheduler;
+    private final DraftRepository draftRepository;
+    private final int workers;
+    private final Duration pollInterval;
+    private final Duration lease;
+    private final Duration prepareLead;
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final AtomicInteger running = new AtomicInteger();
+    private ExecutorService workerPool;
+    private ScheduledFuture<?> poller;
 
     @Autowired
     private ApplicationContext applicationContext;
 
-    public DraftScheduler(TaskScheduler taskScheduler, DraftRepository draftRepository) {
+    public DraftScheduler(TaskScheduler taskScheduler, DraftRepository draftRepository, int workers, long pollMillis, long leaseMillis, long prepareMillis) {
         this.taskScheduler = taskScheduler;
         this.draftRepository = draftRepository;
+        this.workers = workers;
+        this.pollInterval = Duration.ofMillis(pollMillis);
+        this.lease = Duration.ofMillis(leaseMillis);
+        this.prepareLead = Duration.ofMillis(prepareMillis);
     }
 
-    public void schedule(DraftSchedule draftSchedule) {
-        execute(draftSchedule);
-    }
+    public void start() {
+        AtomicInteger threads = new AtomicInteger();
+        workerPool = Executors.newFixedThreadPool(workers, runnable -> new Thread(runnable, "draft-release-" + threads.getAndIncrement()));
 
-    public void warmUpDraftSchedules() {
-        logger.info("Warming up existing draft schedules");
-        List<DraftSchedule> unreleasedDraftSchedules = draftRepository.getDraftSchedulesByReleaseStatus(ReleaseStatus.NOT_RELEASED);
-        logger.info("Scheduling {} unreleased draft schedules", unreleasedDraftSchedules.size());
-        unreleasedDraftSchedules.forEach(this::schedule);
+        // the first poll also picks up anything that came due while no node was running
+        poller = taskScheduler.scheduleWithFixedDelay(this::poll, pollInterval);
+        logger.info("Started draft scheduler {} with {} workers", nodeId, workers);
     }
 
-    private void execute(DraftSchedule draftSchedule) {
-        UUID draftId = draftSchedule.getDraftId();
-        logger.info("Scheduling draft {}", draftId);
+    public void stop() throws InterruptedException {
+        poller.cancel(false);
+        workerPool.shutdown();
+        workerPool.awaitTermination(10, TimeUnit.SECONDS);
+    }
 
-        Future<?> scheduledTaskFuture = taskMap.get(draftId);
+    // the node that created the draft wakes up in time to prepare it, any node may still be the one to claim it
+    public void schedule(DraftSchedule draftSchedule) {
+        ZonedDateTime draftStartTime = TimeHelper.getZonedDateTime(draftSchedule.getReleaseTime());
+        taskScheduler.schedule(this::poll, draftStartTime.minus(prepareLead).toInstant());
 
-        if (scheduledTaskFuture == null) {
+        logger.info("Draft {} is scheduled at {}", draftSchedule.getDraftId(), draftStartTime);
+    }
 
-            DraftTasklet draftTasklet = applicationContext.getBean("draftTasklet", DraftTasklet.class);
-            draftTasklet = draftTasklet.withDraftSchedule(draftSchedule);
+    public synchronized void poll() {
+        // only claim what this node can start right away, the rest is left for other nodes
+        int capacity = workers - running.get();
 
-            LocalDateTime releaseTime = draftSchedule.getReleaseTime();
-            ZonedDateTime draftStartTime = TimeHelper.getZonedDateTime(releaseTime);
+        if (capacity <= 0) {
+            return;
+        }
 
-            ScheduledFuture<?> futureDraft = taskScheduler.schedule(draftTasklet, draftStartTime.toInstant());
-            taskMap.put(draftId, futureDraft);
+        LocalDateTime now = TimeHelper.getCurrentTime();
+        List<DraftSchedule> draftSchedules;
 
-            logger.info("Draft {} is scheduled at {}", draftId, draftStartTime);
-        } else {
-            logger.info("Draft schedule already exists for draft id {}", draftId);
+        try {
+            // the lease has to outlast the wait between preparing a draft and releasing it
+            draftSchedules = draftRepository.claimDraftSchedules(nodeId, now, now.plus(prepareLead), now.plus(prepareLead).plus(lease), capacity);
+        } catch (Exception e) {
+            logger.error("Unable to claim due draft schedules", e);
+            return;
         }
+
+        draftSchedules.forEach(draftSchedule -> {
+            if (draftSchedule.getReleaseTime().isBefore(now.minus(pollInterval))) {
+                logger.info("Catching up on draft {} due at {}", draftSchedule.getDraftId(), draftSchedule.getReleaseTime());
+            }
+
+            DraftTasklet draftTasklet = applicationContext.getBean("draftTasklet", DraftTasklet.class)
+                    .withDraftSchedule(draftSchedule);
+
+            // a worker is only held while preparing and while releasing, not for the wait in between
+            submit(draftTasklet::prepare, () -> taskScheduler.schedule(() -> submit(draftTasklet, () -> {}),
+                    TimeHelper.getZonedDateTime(draftSchedule.getReleaseTime()).toInstant()));
+        });
     }
 
-    public Map<UUID, ScheduledFuture<?>> getTaskMap() {
-        return taskMap;
+    private void submit(Runnable task, Runnable then) {
+        running.incrementAndGet();
+        workerPool.execute(() -> {
+            try {
+                task.run();
+            } finally {
+                running.decrementAndGet();
+            }
+            then.run();
+        });
     }
 }
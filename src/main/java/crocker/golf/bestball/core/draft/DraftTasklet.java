@@ -1,5 +1,6 @@
 package crocker.golf.bestball.core.draft;
 
+import crocker.golf.bestball.domain.enums.game.ReleaseStatus;
 import crocker.golf.bestball.domain.game.draft.DraftSchedule;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -20,6 +21,17 @@ public class DraftTasklet implements Runnable {
         return this;
     }
 
+    public void prepare() {
+        try {
+            if (draftSchedule.getReleaseStatus() == ReleaseStatus.NOT_RELEASED) {
+                draftSchedule = draftExecutor.prepare(draftSchedule);
+            }
+        } catch (Throwable t) {
+            // the release prepares whatever was not prepared ahead
+            logger.error(t.getMessage(), t);
+        }
+    }
+
     @Override
     public void run() {
         try {
@@ -0,0 +1,23 @@
+package crocker.golf.bestball.core.mapper.game;
+
+import crocker.golf.bestball.domain.game.draft.DraftPick;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+public class DraftPickRowMapper implements RowMapper<DraftPick> {
+
+    @Override
+    public DraftPick mapRow(ResultSet rs, int rowNum) throws SQLException {
+        return DraftPick.builder()
+                .draftId((UUID)rs.getObject("DRAFT_ID"))
+                .pickNumber(rs.getInt("PICK_NUMBER"))
+                .userId((UUID)rs.getObject("USER_ID"))
+                .playerId((UUID)rs.getObject("PLAYER_ID"))
+                .pickedAt(rs.getTimestamp("PICKED_AT").toLocalDateTime())
+                .requestId((UUID)rs.getObject("REQUEST_ID"))
+                .build();
+    }
+}
@@ -1,6 +1,7 @@
 package crocker.golf.bestball.core.mapper.game;
 
 import crocker.golf.bestball.domain.enums.game.DraftState;
+import crocker.golf.bestball.domain.enums.game.DraftStyle;
 import crocker.golf.bestball.domain.game.draft.Draft;
 import org.springframework.jdbc.core.RowMapper;
 
@@ -18,6 +19,8 @@ public class DraftRowMapper implements RowMapper<Draft> {
                 .draftVersion(rs.getInt("DRAFT_VERSION"))
                 .startTime(rs.getTimestamp("DRAFT_TIME").toLocalDateTime())
                 .currentPick(rs.getInt("CURRENT_PICK"))
+                .draftStyle(DraftStyle.valueOf(rs.getString("DRAFT_STYLE")))
+                .rounds(rs.getInt("ROUNDS"))
                 .build();
     }
 }
@@ -8,16 +8,21 @@ import org.springframework.jdbc.core.RowMapper;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Timestamp;
 import java.util.UUID;
 
 public class DraftScheduleRowMapper implements RowMapper<DraftSchedule> {
 
     @Override
     public DraftSchedule mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp claimedUntil = rs.getTimestamp("CLAIMED_UNTIL");
+
         return DraftSchedule.builder()
                 .draftId((UUID)rs.getObject("DRAFT_ID"))
                 .releaseTime(rs.getTimestamp("RELEASE_TIME").toLocalDateTime())
                 .releaseStatus(ReleaseStatus.valueOf(rs.getString("RELEASE_STATUS")))
+                .claimedBy(rs.getString("CLAIMED_BY"))
+                .claimedUntil(claimedUntil == null ? null : claimedUntil.toLocalDateTime())
                 .build();
     }
 }
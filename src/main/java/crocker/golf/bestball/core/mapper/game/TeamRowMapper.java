@@ -21,6 +21,8 @@ public class TeamRowMapper implements RowMapper<Team> {
 
     @Override
     public Team mapRow(ResultSet rs, int rowNum) throws SQLException {
+        Map<UUID, PgaPlayer> pgaPlayers = pgaRepository.getWorldRankingsAsMap();
+
         return Team.builder()
                 .teamId((UUID)rs.getObject("TEAM_ID"))
                 .userId((UUID)rs.getObject("USER_ID"))
@@ -28,18 +30,16 @@ public class TeamRowMapper implements RowMapper<Team> {
                 .gameId((UUID)rs.getObject("GAME_ID"))
                 .tournamentId((UUID)rs.getObject("TOURNAMENT_ID"))
                 .teamRole(TeamRole.valueOf(rs.getString("TEAM_ROLE")))
-                .golferOne(buildGolfer(rs, "PLAYER_ONE_ID"))
-                .golferTwo(buildGolfer(rs, "PLAYER_TWO_ID"))
-                .golferThree(buildGolfer(rs, "PLAYER_THREE_ID"))
-                .golferFour(buildGolfer(rs, "PLAYER_FOUR_ID"))
+                .golferOne(buildGolfer(rs, pgaPlayers, "PLAYER_ONE_ID"))
+                .golferTwo(buildGolfer(rs, pgaPlayers, "PLAYER_TWO_ID"))
+                .golferThree(buildGolfer(rs, pgaPlayers, "PLAYER_THREE_ID"))
+                .golferFour(buildGolfer(rs, pgaPlayers, "PLAYER_FOUR_ID"))
                 .toPar(rs.getInt("TO_PAR"))
                 .totalStrokes(rs.getInt("TOTAL_STROKES"))
                 .build();
     }
 
-    private PgaPlayer buildGolfer(ResultSet rs, String column) throws SQLException {
-        Map<UUID, PgaPlayer> pgaPlayers = pgaRepository.getWorldRankingsAsMap();
-
+    private PgaPlayer buildGolfer(ResultSet rs, Map<UUID, PgaPlayer> pgaPlayers, String column) throws SQLException {
         UUID golferId = (UUID)rs.getObject(column);
 
         if (golferId == null) {
@@ -0,0 +1,37 @@
+package crocker.golf.bestball.core.repository;
+
+import crocker.golf.bestball.core.dao.ArchiveDao;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Caching;
+
+import java.util.List;
+import java.util.UUID;
+
+public class ArchiveRepository {
+
+    private final ArchiveDao archiveDao;
+
+    public ArchiveRepository(ArchiveDao archiveDao) {
+        this.archiveDao = archiveDao;
+    }
+
+    public List<UUID> getDraftsToArchive(int batchSize) {
+        return archiveDao.getDraftsToArchive(batchSize);
+    }
+
+    @Caching(evict = {
+            @CacheEvict(value = "draftOrderByDraftId", key = "#draftId"),
+            @CacheEvict(value = "draftedPlayersByDraftId", key = "#draftId")
+    })
+    public void archiveDraft(UUID draftId) {
+        archiveDao.archiveDraft(draftId);
+    }
+
+    public List<UUID> getGamesToCompact(int batchSize) {
+        return archiveDao.getGamesToCompact(batchSize);
+    }
+
+    public void compactGames(List<UUID> gameIds) {
+        archiveDao.compactGames(gameIds);
+    }
+}
@@ -0,0 +1,200 @@
+package crocker.golf.bestball.core.repository;
+
+import crocker.golf.bestball.core.dao.CacheNotificationDao;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+public class CacheInvalidationBus {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    // postgres rejects NOTIFY payloads of 8000 bytes or more
+    private static final int MAX_PAYLOAD_LENGTH = 7500;
+    private static final int LISTEN_TIMEOUT_MILLIS = 1000;
+
+    private static final String ALL_ENTRIES = "*";
+    private static final String EMPTY_KEY = "-";
+
+    private final CacheNotificationDao cacheNotificationDao;
+    private final long flushIntervalMillis;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    // evictions since the last flush, a key evicted many times in one tick is sent once
+    private final Set<String> pendingEvictions = new LinkedHashSet<>();
+
+    private CacheManager localCacheManager;
+    private volatile boolean running;
+    private Thread publisherThread;
+    private Thread listenerThread;
+
+    public CacheInvalidationBus(CacheNotificationDao cacheNotificationDao, long flushIntervalMillis) {
+        this.cacheNotificationDao = cacheNotificationDao;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    public void start(CacheManager localCacheManager) {
+        this.localCacheManager = localCacheManager;
+        running = true;
+
+        publisherThread = new Thread(this::publishLoop, "cache-bus-publisher");
+        publisherThread.setDaemon(true);
+        publisherThread.start();
+
+        listenerThread = new Thread(this::listenLoop, "cache-bus-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    public void stop() throws InterruptedException {
+        running = false;
+        publisherThread.interrupt();
+        listenerThread.interrupt();
+        publisherThread.join(TimeUnit.SECONDS.toMillis(5));
+        listenerThread.join(TimeUnit.SECONDS.toMillis(5));
+        flush();
+        cacheNotificationDao.close();
+    }
+
+    public void evicted(String cacheName, Object key) {
+        String encodedKey = encodeKey(key);
+        enqueue(cacheName + ":" + (encodedKey != null ? encodedKey : ALL_ENTRIES));
+    }
+
+    public void cleared(String cacheName) {
+        enqueue(cacheName + ":" + ALL_ENTRIES);
+    }
+
+    private void enqueue(String eviction) {
+        synchronized (pendingEvictions) {
+            pendingEvictions.add(eviction);
+        }
+    }
+
+    private void publishLoop() {
+        while (running) {
+            try {
+                Thread.sleep(flushIntervalMillis);
+                flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Unable to publish cache evictions", e);
+            }
+        }
+    }
+
+    private void flush() {
+        List<String> evictions;
+        synchronized (pendingEvictions) {
+            if (pendingEvictions.isEmpty()) {
+                return;
+            }
+            evictions = new ArrayList<>(pendingEvictions);
+            pendingEvictions.clear();
+        }
+
+        StringBuilder payload = new StringBuilder(nodeId);
+        for (String eviction : evictions) {
+            if (payload.length() + eviction.length() + 1 > MAX_PAYLOAD_LENGTH) {
+                cacheNotificationDao.sendNotification(payload.toString());
+                payload = new StringBuilder(nodeId);
+            }
+            payload.append(';').append(eviction);
+        }
+        cacheNotificationDao.sendNotification(payload.toString());
+    }
+
+    private void listenLoop() {
+        boolean listening = false;
+
+        while (running) {
+            try {
+                if (!listening) {
+                    cacheNotificationDao.listen();
+                    listening = true;
+                    // anything broadcast while we were not listening is lost, so start from empty caches
+                    clearLocalCaches();
+                }
+
+                cacheNotificationDao.getNotifications(LISTEN_TIMEOUT_MILLIS).forEach(this::applyRemoteEvictions);
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                logger.error("Cache eviction listener failed, reconnecting", e);
+                listening = false;
+                sleepBeforeReconnect();
+            }
+        }
+    }
+
+    private void applyRemoteEvictions(String payload) {
+        String[] entries = payload.split(";");
+
+        if (entries.length == 0 || nodeId.equals(entries[0])) {
+            return;
+        }
+
+        for (int i = 1; i < entries.length; i++) {
+            int separator = entries[i].indexOf(':');
+            Cache cache = localCacheManager.getCache(entries[i].substring(0, separator));
+
+            if (cache == null) {
+                continue;
+            }
+
+            Object key = decodeKey(entries[i].substring(separator + 1));
+            if (key == null) {
+                cache.clear();
+            } else {
+                cache.evict(key);
+            }
+        }
+    }
+
+    private void clearLocalCaches() {
+        localCacheManager.getCacheNames().forEach(name -> localCacheManager.getCache(name).clear());
+    }
+
+    private void sleepBeforeReconnect() {
+        try {
+            Thread.sleep(TimeUnit.SECONDS.toMillis(5));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // keys in this app are ids, season years or the empty key, anything else falls back to clearing the cache
+    private String encodeKey(Object key) {
+        if (key instanceof UUID) {
+            return "u" + key;
+        } else if (key instanceof Integer) {
+            return "i" + key;
+        } else if (SimpleKey.EMPTY.equals(key)) {
+            return EMPTY_KEY;
+        }
+        return null;
+    }
+
+    private Object decodeKey(String encodedKey) {
+        if (encodedKey.startsWith("u")) {
+            return UUID.fromString(encodedKey.substring(1));
+        } else if (encodedKey.startsWith("i")) {
+            return Integer.valueOf(encodedKey.substring(1));
+        } else if (EMPTY_KEY.equals(encodedKey)) {
+            return SimpleKey.EMPTY;
+        }
+        return null;
+    }
+}
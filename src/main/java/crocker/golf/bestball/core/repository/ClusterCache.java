@@ -0,0 +1,77 @@
+package crocker.golf.bestball.core.repository;
+
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+public class ClusterCache implements Cache {
+
+    private final Cache localCache;
+    private final CacheInvalidationBus cacheInvalidationBus;
+
+    public ClusterCache(Cache localCache, CacheInvalidationBus cacheInvalidationBus) {
+        this.localCache = localCache;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    @Override
+    public String getName() {
+        return localCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return localCache.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return localCache.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return localCache.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        localCache.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return localCache.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        localCache.evict(key);
+        cacheInvalidationBus.evicted(getName(), key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = localCache.evictIfPresent(key);
+        cacheInvalidationBus.evicted(getName(), key);
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        localCache.clear();
+        cacheInvalidationBus.cleared(getName());
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean invalidated = localCache.invalidate();
+        cacheInvalidationBus.cleared(getName());
+        return invalidated;
+    }
+}
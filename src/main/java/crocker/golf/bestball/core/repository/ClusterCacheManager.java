@@ -0,0 +1,44 @@
+package crocker.golf.bestball.core.repository;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ClusterCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    private final CacheInvalidationBus cacheInvalidationBus;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public ClusterCacheManager(CacheManager localCacheManager, CacheInvalidationBus cacheInvalidationBus) {
+        this.localCacheManager = localCacheManager;
+        this.cacheInvalidationBus = cacheInvalidationBus;
+    }
+
+    public void start() {
+        // remote evictions are applied to the local caches directly so they are not broadcast back out
+        cacheInvalidationBus.start(localCacheManager);
+    }
+
+    public void stop() throws InterruptedException {
+        cacheInvalidationBus.stop();
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache localCache = localCacheManager.getCache(name);
+
+        if (localCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, cacheName -> new ClusterCache(localCache, cacheInvalidationBus));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+}
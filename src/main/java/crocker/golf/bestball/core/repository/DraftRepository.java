@@ -3,14 +3,21 @@ package crocker.golf.bestball.core.repository;
 import crocker.golf.bestball.core.dao.DraftDao;
 import crocker.golf.bestball.domain.enums.game.ReleaseStatus;
 import crocker.golf.bestball.domain.game.draft.Draft;
+import crocker.golf.bestball.domain.game.draft.DraftPick;
+import crocker.golf.bestball.domain.game.draft.DraftPool;
 import crocker.golf.bestball.domain.game.draft.DraftSchedule;
 import crocker.golf.bestball.domain.pga.PgaPlayer;
 import crocker.golf.bestball.domain.user.UserInfo;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 
+import java.time.LocalDateTime;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 public class DraftRepository {
@@ -30,26 +37,46 @@ public class DraftRepository {
         draftDao.saveDraftSchedule(draftSchedule);
     }
 
-    public void updateReleaseStatus(DraftSchedule draftSchedule) {
-        draftDao.updateReleaseStatus(draftSchedule);
+    public boolean updateReleaseStatus(DraftSchedule draftSchedule) {
+        return draftDao.updateReleaseStatus(draftSchedule);
     }
 
-    @CacheEvict(value = "draftablePgaPlayersByDraftId", key = "#draftId")
-    public void saveDraftablePgaPlayers(UUID draftId, List<PgaPlayer> pgaPlayers) {
-        draftDao.saveDraftablePgaPlayers(draftId, pgaPlayers);
+    public List<DraftSchedule> claimDraftSchedules(String claimedBy, LocalDateTime now, LocalDateTime dueBy, LocalDateTime claimedUntil, int limit) {
+        return draftDao.claimDraftSchedules(claimedBy, now, dueBy, claimedUntil, limit);
+    }
+
+    @CacheEvict(value = "draftPoolByTournamentId", key = "#tournamentId")
+    public void saveDraftPool(UUID tournamentId, List<PgaPlayer> pgaPlayers) {
+        draftDao.saveDraftPool(tournamentId, pgaPlayers);
+    }
+
+    @CacheEvict(value = "draftedPlayersByDraftId", key = "#draftId")
+    public void saveDraftedPlayers(UUID draftId, DraftPool draftPool) {
+        draftDao.saveDraftedPlayers(draftId, draftPool.getTournamentId(), draftPool.size());
     }
 
     @CacheEvict(value = "draftOrderByDraftId", key = "#draftId")
     public void saveDraftOrder(UUID draftId, List<UserInfo> users) {
+        // a release retried after a node died part way replaces whatever order it had written
+        draftDao.deleteDraftOrder(draftId);
         draftDao.saveDraftOrder(draftId, users);
     }
 
-    @CacheEvict(value = "draftablePgaPlayersByDraftId", key = "#draftId")
-    public void draftPlayer(UUID draftId, PgaPlayer pgaPlayer) {
-        draftDao.draftPlayer(draftId, pgaPlayer);
+    // the write hands back the whole bitset, so the pick replaces the cached one instead of forcing a re-read
+    @Caching(evict = {
+            @CacheEvict(value = "draftedPlayersByDraftId", key = "#draftId", beforeInvocation = true)
+    }, put = {
+            @CachePut(value = "draftedPlayersByDraftId", key = "#draftId")
+    })
+    public BitSet draftPlayer(UUID draftId, int poolIndex) {
+        return draftDao.draftPlayer(draftId, poolIndex);
+    }
+
+    public void saveDraftPick(DraftPick draftPick) {
+        draftDao.saveDraftPick(draftPick);
     }
 
-    @Cacheable(value = "draftByDraftId", key = "#draftId")
+    @Cacheable(value = "draftByDraftId", key = "#draftId", sync = true)
     public Draft getLatestDraftById(UUID draftId) {
         return draftDao.getLatestDraftById(draftId);
     }
@@ -58,29 +85,50 @@ public class DraftRepository {
         return draftDao.getDraftSchedulesByReleaseStatus(releaseStatus);
     }
 
-    @Cacheable(value = "draftablePgaPlayersByDraftId", key = "#draftId")
-    public List<PgaPlayer> getDraftablePgaPlayersByDraftId(UUID draftId) {
-        return draftDao.getDraftablePgaPlayersByDraftId(draftId);
+    @Cacheable(value = "draftPoolByTournamentId", key = "#tournamentId", sync = true)
+    public DraftPool getDraftPool(UUID tournamentId) {
+        return new DraftPool(tournamentId, draftDao.getDraftPoolByTournamentId(tournamentId));
     }
 
-    @Cacheable(value = "draftOrderByDraftId", key = "#draftId")
+    // cached bitsets are shared, callers read them and never set bits on them
+    @Cacheable(value = "draftedPlayersByDraftId", key = "#draftId", sync = true)
+    public BitSet getDraftedPlayers(UUID draftId) {
+        return draftDao.getDraftedPlayersByDraftId(draftId);
+    }
+
+    @Cacheable(value = "draftOrderByDraftId", key = "#draftId", sync = true)
     public List<UserInfo> getDraftOrderByDraftId(UUID draftId) {
-        return draftDao.getDraftOrderByDraftId(draftId);
+        return Collections.unmodifiableList(draftDao.getDraftOrderByDraftId(draftId));
+    }
+
+    public List<DraftPick> getDraftPicksByDraftId(UUID draftId) {
+        return draftDao.getDraftPicksByDraftId(draftId);
+    }
+
+    // read straight from the log, another node may have just written to it
+    public int getLatestPickNumber(UUID draftId) {
+        return draftDao.getLatestPickNumber(draftId);
+    }
+
+    public void savePickQueue(UUID draftId, UUID userId, List<UUID> playerIds) {
+        draftDao.savePickQueue(draftId, userId, playerIds);
     }
 
-    public PgaPlayer getPgaPlayerById(UUID draftId, UUID playerId) {
-        return draftDao.getPgaPlayerById(draftId, playerId);
+    public Map<UUID, List<UUID>> getPickQueuesByDraftId(UUID draftId) {
+        return draftDao.getPickQueuesByDraftId(draftId);
     }
 
     @Caching(evict = {
             @CacheEvict(value = "draftByDraftId", key = "#draftId"),
             @CacheEvict(value = "draftOrderByDraftId", key = "#draftId"),
-            @CacheEvict(value = "draftablePgaPlayersByDraftId", key = "#draftId")
+            @CacheEvict(value = "draftedPlayersByDraftId", key = "#draftId")
     })
     public void deleteDraft(UUID draftId) {
         draftDao.deleteDraft(draftId);
         draftDao.deleteDraftSchedules(draftId);
-        draftDao.deleteDraftablePgaPlayers(draftId);
+        draftDao.deleteDraftedPlayers(draftId);
         draftDao.deleteDraftOrder(draftId);
+        draftDao.deleteDraftPicks(draftId);
+        draftDao.deletePickQueues(draftId);
     }
 }
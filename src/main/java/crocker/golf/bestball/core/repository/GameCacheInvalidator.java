@@ -0,0 +1,52 @@
+package crocker.golf.bestball.core.repository;
+
+import crocker.golf.bestball.domain.game.Game;
+import crocker.golf.bestball.domain.game.Team;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+
+public class GameCacheInvalidator {
+
+    private final CacheManager cacheManager;
+
+    public GameCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    public void evictGames(Collection<Game> games) {
+        evict("gameByGameId", games, Game::getGameId);
+        evict("gameByDraftId", games, Game::getDraftId);
+        evict("gameViewByGameId", games, Game::getGameId);
+    }
+
+    // a team row is cached under its user, draft and tournament, every one of them has to go
+    public void evictTeams(Collection<Team> teams) {
+        evict("teamsByUserId", teams, Team::getUserId);
+        evict("teamsByDraftId", teams, Team::getDraftId);
+        evict("teamsByTournamentId", teams, Team::getTournamentId);
+        evict("gameViewByGameId", teams, Team::getGameId);
+    }
+
+    public void evictTeamRounds(Collection<UUID> gameIds) {
+        evict("teamRoundsByGameId", gameIds, Function.identity());
+    }
+
+    private <T> void evict(String cacheName, Collection<T> values, Function<T, UUID> keyMapper) {
+        Cache cache = cacheManager.getCache(cacheName);
+
+        if (cache == null) {
+            return;
+        }
+
+        values.stream()
+                .map(keyMapper)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(cache::evict);
+    }
+}
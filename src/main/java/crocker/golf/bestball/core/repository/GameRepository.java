@@ -1,16 +1,17 @@
 package crocker.golf.bestball.core.repository;
 
+import crocker.golf.bestball.core.dao.GameAggregateDao;
 import crocker.golf.bestball.core.dao.GameDao;
 import crocker.golf.bestball.core.dao.TeamDao;
 import crocker.golf.bestball.core.dao.postgresql.TeamDaoImpl;
 import crocker.golf.bestball.domain.enums.game.GameState;
 import crocker.golf.bestball.domain.game.Game;
+import crocker.golf.bestball.domain.game.GameAggregate;
 import crocker.golf.bestball.domain.game.Team;
 import crocker.golf.bestball.domain.game.round.TeamRound;
-import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -19,65 +20,63 @@ public class GameRepository {
 
     private final GameDao gameDao;
     private final TeamDao teamDao;
+    private final GameAggregateDao gameAggregateDao;
+    private final GameCacheInvalidator gameCacheInvalidator;
 
-    public GameRepository(GameDao gameDao, TeamDao teamDao) {
+    // not cached since every score update changes it, but viewers of the same game share one read
+    private final SingleFlight<UUID, GameAggregate> gameAggregateLoads = new SingleFlight<>();
+
+    public GameRepository(GameDao gameDao, TeamDao teamDao, GameAggregateDao gameAggregateDao, GameCacheInvalidator gameCacheInvalidator) {
         this.gameDao = gameDao;
         this.teamDao = teamDao;
+        this.gameAggregateDao = gameAggregateDao;
+        this.gameCacheInvalidator = gameCacheInvalidator;
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = "gameByGameId", key = "#game.getGameId()"),
-            @CacheEvict(value = "gameByDraftId", key = "#game.getDraftId()")
-    })
     public void saveNewGame(Game game) {
         gameDao.saveNewGame(game);
+        gameCacheInvalidator.evictGames(Collections.singletonList(game));
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = "gameByGameId", allEntries = true),
-            @CacheEvict(value = "gameByDraftId", allEntries = true)
-    })
     public void updateGames(List<Game> games) {
         gameDao.updateGames(games);
+        gameCacheInvalidator.evictGames(games);
     }
 
-    @Cacheable(value = "gameByGameId", key = "#gameId")
+    @Cacheable(value = "gameByGameId", key = "#gameId", sync = true)
     public Game getLatestGameByGameId(UUID gameId) { return gameDao.getLatestGameByGameId(gameId); }
 
-    @Cacheable(value = "gameByDraftId", key = "#draftId")
+    @Cacheable(value = "gameByDraftId", key = "#draftId", sync = true)
     public Game getLatestGameByDraftId(UUID draftId) { return gameDao.getLatestGameByDraftId(draftId); }
 
-    @Caching(evict = {
-        @CacheEvict(value = "teamsByUserId", key = "#team.getUserId()"),
-        @CacheEvict(value = "teamsByDraftId", key = "#team.getDraftId()")
-    })
-    public void saveNewTeam(Team team) { teamDao.saveTeam(team); }
+    public void saveNewTeam(Team team) {
+        teamDao.saveTeam(team);
+        gameCacheInvalidator.evictTeams(Collections.singletonList(team));
+    }
 
-    @Caching(evict = {
-            @CacheEvict(value = "teamsByUserId", key = "#team.getUserId()"),
-            @CacheEvict(value = "teamsByDraftId", key = "#team.getDraftId()"),
-            @CacheEvict(value = "teamsByTournamentId", key = "#team.getTournamentId()")
-    })
-    public void updateTeam(Team team) { teamDao.updateTeam(team); }
+    public void updateTeam(Team team) {
+        teamDao.updateTeam(team);
+        gameCacheInvalidator.evictTeams(Collections.singletonList(team));
+    }
 
-    @CacheEvict(value = "teamsByDraftId", key = "#teams.get(0).getDraftId()")
     public void updateTeams(List<Team> teams) {
         teamDao.updateTeams(teams);
+        gameCacheInvalidator.evictTeams(teams);
     }
 
-    @Cacheable(value = "teamsByUserId", key = "#userId")
+    @Cacheable(value = "teamsByUserId", key = "#userId", sync = true)
     public List<Team> getTeamsByUserId(UUID userId) {
-        return teamDao.getTeamsByUserId(userId);
+        return Collections.unmodifiableList(teamDao.getTeamsByUserId(userId));
     }
 
-    @Cacheable(value = "teamsByDraftId", key = "#draftId")
+    @Cacheable(value = "teamsByDraftId", key = "#draftId", sync = true)
     public List<Team> getTeamsByDraftId(UUID draftId) {
-        return teamDao.getTeamsByDraftId(draftId);
+        return Collections.unmodifiableList(teamDao.getTeamsByDraftId(draftId));
     }
 
-    @Cacheable(value = "teamsByTournamentId", key = "#tournamentId")
+    @Cacheable(value = "teamsByTournamentId", key = "#tournamentId", sync = true)
     public List<Team> getTeamsByTournamentId(UUID tournamentId) {
-        return teamDao.getTeamsByTournamentId(tournamentId);
+        return Collections.unmodifiableList(teamDao.getTeamsByTournamentId(tournamentId));
     }
 
     public Team getTeamByUserAndDraftId(UUID userId, UUID draftId) {
@@ -88,36 +87,52 @@ public class GameRepository {
         return teamDao.getTeamByUserAndGameId(userId, gameId);
     }
 
-    @CacheEvict(value = "teamRoundsByGameId", key = "#gameId")
     public void updateTeamRounds(UUID gameId, List<TeamRound> teamRounds) {
         teamDao.updateTeamRounds(teamRounds);
+        gameCacheInvalidator.evictTeamRounds(Collections.singletonList(gameId));
     }
 
-    @Cacheable(value = "teamRoundsByGameId", key = "#gameId")
+    public void writeTeamScores(List<Team> teams, List<TeamRound> teamRounds) {
+        teamDao.updateTeamRounds(teamRounds);
+        teamDao.updateTeams(teams);
+
+        gameCacheInvalidator.evictTeams(teams);
+        gameCacheInvalidator.evictTeamRounds(teams.stream().map(Team::getGameId).collect(Collectors.toSet()));
+    }
+
+    @Cacheable(value = "teamRoundsByGameId", key = "#gameId", sync = true)
     public List<TeamRound> getTeamRoundsByGameId(UUID gameId) {
-        return teamDao.getTeamRoundsByGameId(gameId);
+        return Collections.unmodifiableList(teamDao.getTeamRoundsByGameId(gameId));
     }
 
     public List<TeamRound> getTeamRoundsByTeamId(UUID teamId) {
         return teamDao.getTeamRoundsByTeamId(teamId);
     }
 
+    public GameAggregate getGameAggregate(UUID gameId, UUID tournamentId) {
+        return gameAggregateLoads.load(gameId, () -> gameAggregateDao.getGameAggregate(gameId, tournamentId));
+    }
+
     public List<Game> getInProgressGames() {
         return gameDao.getInProgressGames();
     }
 
-    @Caching(evict = {
-            @CacheEvict(value = "teamRoundsByGameId", key = "#team.getGameId()"),
-            @CacheEvict(value = "gameByGameId", key = "#team.getGameId()"),
-            @CacheEvict(value = "gameByDraftId", key = "#team.getDraftId()"),
-            @CacheEvict(value = "teamsByUserId", key = "#team.getUserId()"),
-            @CacheEvict(value = "teamsByDraftId", key = "#team.getDraftId()"),
-            @CacheEvict(value = "teamsByTournamentId", key = "#team.getTournamentId()")
-    })
+    public List<Game> getDraftedGamesNotStarted() {
+        return gameDao.getDraftedGamesNotStarted();
+    }
+
     public void deleteGame(Team team) {
+        // every member of the game has the team cached under their own user, not just the creator
+        List<Team> teams = teamDao.getTeamsByDraftId(team.getDraftId());
+        // evicted by the team's keys, the game row may already be gone when a delete is retried
+        Game game = Game.builder().gameId(team.getGameId()).draftId(team.getDraftId()).build();
 
         gameDao.deleteGame(team.getGameId());
         teamDao.deleteTeamsByGameId(team.getGameId());
         teamDao.deleteTeamRoundsByGameId(team.getGameId());
+
+        gameCacheInvalidator.evictGames(Collections.singletonList(game));
+        gameCacheInvalidator.evictTeams(teams);
+        gameCacheInvalidator.evictTeamRounds(Collections.singletonList(team.getGameId()));
     }
 }
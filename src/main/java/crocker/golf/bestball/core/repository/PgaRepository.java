@@ -1,13 +1,14 @@
 package crocker.golf.bestball.core.repository;
 
 import crocker.golf.bestball.core.dao.PgaDao;
-import crocker.golf.bestball.domain.enums.pga.TournamentState;
 import crocker.golf.bestball.domain.pga.PgaPlayer;
 import crocker.golf.bestball.domain.pga.tournament.*;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.Caching;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -21,53 +22,56 @@ public class PgaRepository {
         this.pgaDao = pgaDao;
     }
 
-    @CacheEvict(value = "worldRankings", allEntries = true)
+    @Caching(evict = {
+            @CacheEvict(value = "worldRankings", allEntries = true),
+            @CacheEvict(value = "worldRankingsById", allEntries = true)
+    })
     public void updateWorldRankings(List<PgaPlayer> pgaPlayers) {
         pgaDao.updateWorldRankings(pgaPlayers);
     }
 
-    @Cacheable("worldRankings")
+    @Cacheable(value = "worldRankings", sync = true)
     public List<PgaPlayer> getWorldRankings() {
-        return pgaDao.getWorldRankings();
+        return Collections.unmodifiableList(pgaDao.getWorldRankings());
     }
 
+    @Cacheable(value = "worldRankingsById", sync = true)
     public Map<UUID, PgaPlayer> getWorldRankingsAsMap() {
-        return this.getWorldRankings().stream()
-                .collect(Collectors.toMap(PgaPlayer::getPlayerId, pgaPlayer -> pgaPlayer));
+        return Collections.unmodifiableMap(this.getWorldRankings().stream()
+                .collect(Collectors.toMap(PgaPlayer::getPlayerId, pgaPlayer -> pgaPlayer)));
     }
 
     @Caching(evict = {
             @CacheEvict(value = "tournamentsBySeason", allEntries = true),
             @CacheEvict(value = "tournamentById", allEntries = true),
             @CacheEvict(value = "allTournaments"),
-            @CacheEvict(value = "inProgressTournaments")
+            @CacheEvict(value = "tournamentIndex"),
+            @CacheEvict(value = "upcomingTournaments", allEntries = true)
     })
     public void updateSeasonSchedule(List<Tournament> tournaments) {
         pgaDao.updateSeasonSchedule(tournaments);
     }
 
 
-    @Cacheable("tournamentsBySeason")
+    @Cacheable(value = "tournamentsBySeason", sync = true)
     public List<Tournament> getTournamentsBySeason(int year) {
-        return pgaDao.getTournamentSchedulesBySeason(year);
+        return Collections.unmodifiableList(pgaDao.getTournamentSchedulesBySeason(year));
     }
 
-    @Cacheable(value = "tournamentById", key = "#tournamentId")
+    @Cacheable(value = "tournamentById", key = "#tournamentId", sync = true)
     public Tournament getTournamentById(UUID tournamentId) {
         return pgaDao.getTournamentScheduleById(tournamentId);
     }
 
-    @Cacheable(value = "allTournaments")
+    @Cacheable(value = "allTournaments", sync = true)
     public List<Tournament> getAllTournaments () {
-        return pgaDao.getAllTournamentSchedules();
+        return Collections.unmodifiableList(pgaDao.getAllTournamentSchedules());
     }
 
-    @Cacheable(value = "inProgressTournaments")
-    public List<Tournament> getInProgressTournaments() {
-        List<Tournament> tournaments = this.getAllTournaments();
-        return tournaments.stream()
-                .filter(tournament -> tournament.getTournamentState() == TournamentState.IN_PROGRESS)
-                .collect(Collectors.toList());
+    // evicted with the schedule, the next reader swaps in a freshly built index
+    @Cacheable(value = "tournamentIndex", sync = true)
+    public TournamentIndex getTournamentIndex() {
+        return new TournamentIndex(pgaDao.getAllTournamentSchedules());
     }
 
     @Caching(evict = {
@@ -79,26 +83,37 @@ public class PgaRepository {
         pgaDao.updateTournamentDetails(tournament);
     }
 
-    @Cacheable(value = "tournamentField", key = "#tournamentId")
+    @Cacheable(value = "tournamentField", key = "#tournamentId", sync = true)
     public List<PgaPlayer> getTournamentField(UUID tournamentId) {
-        return pgaDao.getTournamentField(tournamentId);
+        return Collections.unmodifiableList(pgaDao.getTournamentField(tournamentId));
     }
 
-    @Cacheable(value = "tournamentCourses", key = "#tournamentId")
+    @Cacheable(value = "tournamentCourses", key = "#tournamentId", sync = true)
     public List<TournamentCourse> getTournamentCourses(UUID tournamentId) {
-        return pgaDao.getTournamentCourses(tournamentId);
+        return Collections.unmodifiableList(pgaDao.getTournamentCourses(tournamentId));
     }
 
-    @Cacheable(value = "tournamentRounds", key = "#tournamentId")
+    @Cacheable(value = "tournamentRounds", key = "#tournamentId", sync = true)
     public List<TournamentRound> getTournamentRounds(UUID tournamentId) {
-        return pgaDao.getTournamentRounds(tournamentId);
+        return Collections.unmodifiableList(pgaDao.getTournamentRounds(tournamentId));
     }
 
     public void updatePlayerRounds(List<PlayerRound> playerRounds) {
         pgaDao.updatePlayerRounds(playerRounds);
     }
 
+    @Cacheable(value = "playerRoundsByTournamentId", key = "#tournamentId", sync = true)
     public List<PlayerRound> getPlayerRoundsByTournamentId(UUID tournamentId) {
-        return pgaDao.getPlayerRoundsByTournamentId(tournamentId);
+        return Collections.unmodifiableList(pgaDao.getPlayerRoundsByTournamentId(tournamentId));
+    }
+
+    // the evict tells the other nodes to drop their copy, the put reloads ours before anyone has to wait on it
+    @Caching(evict = {
+            @CacheEvict(value = "playerRoundsByTournamentId", key = "#tournamentId", beforeInvocation = true)
+    }, put = {
+            @CachePut(value = "playerRoundsByTournamentId", key = "#tournamentId")
+    })
+    public List<PlayerRound> refreshPlayerRounds(UUID tournamentId) {
+        return Collections.unmodifiableList(pgaDao.getPlayerRoundsByTournamentId(tournamentId));
     }
 }
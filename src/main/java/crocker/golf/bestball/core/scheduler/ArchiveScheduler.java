@@ -0,0 +1,26 @@
+package crocker.golf.bestball.core.scheduler;
+
+import crocker.golf.bestball.core.service.game.ArchiveService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class ArchiveScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveScheduler.class);
+
+    private ArchiveService archiveService;
+
+    public ArchiveScheduler(ArchiveService archiveService) {
+        this.archiveService = archiveService;
+    }
+
+    @Scheduled(cron = "${golf.archive.cron}", zone = "${golf.archive.zone}")
+    @Async
+    public void archiveCompleted() {
+        logger.info("Archiving completed drafts and games on thread {}", Thread.currentThread().getName());
+        archiveService.archiveCompletedDrafts();
+        archiveService.compactCompletedGames();
+    }
+}
@@ -0,0 +1,37 @@
+package crocker.golf.bestball.core.scheduler;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class CacheStatsScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheStatsScheduler.class);
+
+    private CacheManager cacheManager;
+
+    public CacheStatsScheduler(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Scheduled(fixedDelayString = "${golf.cache.stats.rate}", initialDelayString = "${golf.cache.stats.rate}")
+    public void logCacheStats() {
+        cacheManager.getCacheNames().forEach(name -> {
+            Cache cache = cacheManager.getCache(name);
+
+            // caches may be wrapped for cluster invalidation, so check what they are backed by
+            if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache) {
+                com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache = (com.github.benmanes.caffeine.cache.Cache<?, ?>) cache.getNativeCache();
+                CacheStats stats = nativeCache.stats();
+
+                logger.info("Cache {}: size={} hits={} misses={} hitRate={} evictions={} loadFailures={} avgLoadMs={}",
+                        name, nativeCache.estimatedSize(), stats.hitCount(), stats.missCount(),
+                        String.format("%.2f", stats.hitRate()), stats.evictionCount(), stats.loadFailureCount(),
+                        String.format("%.1f", stats.averageLoadPenalty() / 1_000_000.0));
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package crocker.golf.bestball.core.scheduler;
+
+import crocker.golf.bestball.core.dao.PartitionDao;
+import crocker.golf.bestball.core.util.TimeHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class PartitionScheduler {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionScheduler.class);
+
+    private PartitionDao partitionDao;
+
+    public PartitionScheduler(PartitionDao partitionDao) {
+        this.partitionDao = partitionDao;
+    }
+
+    // the fall swing is scheduled under next year's season, so its partitions are created ahead of rollover
+    @Scheduled(cron = "${golf.partition.cron}")
+    public void createSeasonPartitions() {
+        int currentSeason = TimeHelper.getCurrentSeason();
+
+        try {
+            partitionDao.createSeasonPartitions(currentSeason);
+            partitionDao.createSeasonPartitions(currentSeason + 1);
+        } catch (Exception e) {
+            logger.error("Unable to create round partitions for season {}", currentSeason, e);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package crocker.golf.bestball.core.service.game;
+
+import crocker.golf.bestball.core.repository.ArchiveRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class ArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ArchiveService.class);
+
+    private final ArchiveRepository archiveRepository;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public ArchiveService(ArchiveRepository archiveRepository, int batchSize, int maxBatches) {
+        this.archiveRepository = archiveRepository;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+    }
+
+    public void archiveCompletedDrafts() {
+        int archived = 0;
+        // drafts that failed this run are still unarchived, so they are asked for again and skipped
+        Set<UUID> failed = new HashSet<>();
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int limit = batchSize + failed.size();
+            List<UUID> fetched = archiveRepository.getDraftsToArchive(limit);
+            List<UUID> draftIds = fetched.stream()
+                    .filter(draftId -> !failed.contains(draftId))
+                    .collect(Collectors.toList());
+
+            // each draft is its own short transaction so live drafts are never blocked for long
+            for (UUID draftId : draftIds) {
+                try {
+                    archiveRepository.archiveDraft(draftId);
+                    archived++;
+                } catch (Exception e) {
+                    logger.error("Unable to archive draft {}", draftId, e);
+                    failed.add(draftId);
+                }
+            }
+
+            if (draftIds.isEmpty() || fetched.size() < limit) {
+                break;
+            }
+        }
+
+        logger.info("Archived {} completed drafts, {} failed", archived, failed.size());
+    }
+
+    public void compactCompletedGames() {
+        int compacted = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<UUID> gameIds = archiveRepository.getGamesToCompact(batchSize);
+
+            if (!gameIds.isEmpty()) {
+                archiveRepository.compactGames(gameIds);
+            }
+            compacted += gameIds.size();
+
+            if (gameIds.size() < batchSize) {
+                break;
+            }
+        }
+
+        logger.info("Compacted versions of {} completed games", compacted);
+    }
+}
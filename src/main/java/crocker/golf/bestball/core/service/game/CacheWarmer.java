@@ -0,0 +1,133 @@
+package crocker.golf.bestball.core.service.game;
+
+import crocker.golf.bestball.core.repository.GameRepository;
+import crocker.golf.bestball.core.repository.PgaRepository;
+import crocker.golf.bestball.domain.game.Game;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// the readiness probe (/actuator/health/readiness) refuses traffic until warming is done or has given up
+public class CacheWarmer implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheWarmer.class);
+
+    private final GameRepository gameRepository;
+    private final PgaRepository pgaRepository;
+    private final GameViewStore gameViewStore;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int threads;
+    private final long timeoutMillis;
+
+    public CacheWarmer(GameRepository gameRepository, PgaRepository pgaRepository, GameViewStore gameViewStore,
+                       ApplicationEventPublisher eventPublisher, int threads, long timeoutMillis) {
+        this.gameRepository = gameRepository;
+        this.pgaRepository = pgaRepository;
+        this.gameViewStore = gameViewStore;
+        this.eventPublisher = eventPublisher;
+        this.threads = threads;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.REFUSING_TRAFFIC);
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        AtomicInteger threadCount = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmer-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        try {
+            logger.info("Warming caches with {} threads, giving up after {} ms", threads, timeoutMillis);
+
+            // teams and golfers are read while building game views, so they go first. the tournaments are the
+            // in progress and next to start, the same ones the pga updater keeps current
+            List<Callable<Object>> pgaTasks = new ArrayList<>();
+            pgaTasks.add(pgaRepository::getWorldRankings);
+            pgaTasks.add(pgaRepository::getWorldRankingsAsMap);
+            pgaRepository.getTournamentIndex().getUpcomingTournaments(2)
+                    .forEach(tournament -> pgaTasks.addAll(tournamentTasks(tournament.getTournamentId())));
+
+            if (!await(executor, pgaTasks, deadline)) {
+                return;
+            }
+
+            List<Callable<Object>> gameTasks = gameRepository.getInProgressGames().stream()
+                    .map(Game::getGameId)
+                    .<Callable<Object>>map(gameId -> () -> gameViewStore.getGameView(gameId))
+                    .collect(Collectors.toList());
+
+            if (await(executor, gameTasks, deadline)) {
+                logger.info("Caches warmed with {} tournament loads and {} game views", pgaTasks.size(), gameTasks.size());
+            }
+        } catch (Exception e) {
+            // a cold cache is slow, not broken, so a failed warm up never holds back startup
+            logger.error("Cache warm up failed, starting with cold caches", e);
+        } finally {
+            executor.shutdownNow();
+            AvailabilityChangeEvent.publish(eventPublisher, this, ReadinessState.ACCEPTING_TRAFFIC);
+        }
+    }
+
+    private List<Callable<Object>> tournamentTasks(UUID tournamentId) {
+        List<Callable<Object>> tasks = new ArrayList<>();
+        tasks.add(() -> pgaRepository.getTournamentById(tournamentId));
+        tasks.add(() -> pgaRepository.getTournamentField(tournamentId));
+        tasks.add(() -> pgaRepository.getTournamentCourses(tournamentId));
+        tasks.add(() -> pgaRepository.getTournamentRounds(tournamentId));
+        tasks.add(() -> pgaRepository.getPlayerRoundsByTournamentId(tournamentId));
+        tasks.add(() -> gameRepository.getTeamsByTournamentId(tournamentId));
+        return tasks;
+    }
+
+    private boolean await(ExecutorService executor, List<Callable<Object>> tasks, long deadline) throws InterruptedException {
+        long remaining = deadline - System.currentTimeMillis();
+
+        if (remaining <= 0) {
+            logger.warn("Cache warm up ran out of time before loading {} entries", tasks.size());
+            return false;
+        }
+
+        List<Future<Object>> futures = executor.invokeAll(tasks, remaining, TimeUnit.MILLISECONDS);
+        int failures = 0;
+
+        for (Future<Object> future : futures) {
+            if (future.isCancelled()) {
+                logger.warn("Cache warm up timed out after {} ms", timeoutMillis);
+                return false;
+            }
+
+            try {
+                future.get();
+            } catch (ExecutionException e) {
+                failures++;
+                logger.warn("Unable to warm cache entry", e.getCause());
+            }
+        }
+
+        if (failures > 0) {
+            logger.warn("{} of {} cache entries failed to warm", failures, tasks.size());
+        }
+        return true;
+    }
+}
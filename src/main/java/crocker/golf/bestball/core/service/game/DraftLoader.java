@@ -0,0 +1,85 @@
+package crocker.golf.bestball.core.service.game;
+
+import crocker.golf.bestball.core.repository.DraftRepository;
+import crocker.golf.bestball.core.repository.GameRepository;
+import crocker.golf.bestball.core.service.user.UserService;
+import crocker.golf.bestball.domain.game.Game;
+import crocker.golf.bestball.domain.game.Team;
+import crocker.golf.bestball.domain.game.draft.Draft;
+import crocker.golf.bestball.domain.game.draft.DraftOrder;
+import crocker.golf.bestball.domain.game.draft.DraftPool;
+import crocker.golf.bestball.domain.user.UserInfo;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+public class DraftLoader {
+
+    private final DraftRepository draftRepository;
+    private final GameRepository gameRepository;
+    private final UserService userService;
+
+    public DraftLoader(DraftRepository draftRepository, GameRepository gameRepository, UserService userService) {
+        this.draftRepository = draftRepository;
+        this.gameRepository = gameRepository;
+        this.userService = userService;
+    }
+
+    public Draft loadEnrichedDraft(Draft draft) {
+        Game game = gameRepository.getLatestGameByDraftId(draft.getDraftId());
+        DraftPool draftPool = draftRepository.getDraftPool(game.getTournament().getTournamentId());
+
+        Draft enrichedDraft = Draft.builder()
+                .draftId(draft.getDraftId())
+                .draftState(draft.getDraftState())
+                .draftVersion(draft.getDraftVersion())
+                .startTime(draft.getStartTime())
+                .currentPick(draft.getCurrentPick())
+                .draftStyle(draft.getDraftStyle())
+                .rounds(draft.getRounds())
+                .maxPlayers(game.getNumPlayers())
+                .availablePgaPlayers(draftPool.getAvailablePgaPlayers(draftRepository.getDraftedPlayers(draft.getDraftId())))
+                .build();
+
+        enrichDraftOrderAndTeams(enrichedDraft);
+
+        return enrichedDraft;
+    }
+
+    // older drafts stored a row for every pick, their first round rows are the same base order
+    public DraftOrder loadDraftOrder(Draft draft) {
+        List<UserInfo> users = draftRepository.getDraftOrderByDraftId(draft.getDraftId());
+        int teams = (int) users.stream().map(UserInfo::getUserId).distinct().count();
+
+        List<UserInfo> baseOrder = users.stream()
+                .filter(user -> user.getPickNumber() <= teams)
+                .sorted(Comparator.comparing(UserInfo::getPickNumber))
+                .collect(Collectors.toList());
+
+        return new DraftOrder(baseOrder, draft.getDraftStyle(), draft.getRounds());
+    }
+
+    private void enrichDraftOrderAndTeams(Draft draft) {
+        List<Team> teams = gameRepository.getTeamsByDraftId(draft.getDraftId());
+        List<UserInfo> users = draftRepository.getDraftOrderByDraftId(draft.getDraftId());
+
+        Map<Integer, UserInfo> draftOrder = loadDraftOrder(draft).toPickMap();
+
+        // cached teams are shared, each draft view gets its own copies to fill in and pick into
+        List<Team> enrichedTeams = teams.stream().map(team -> {
+            Optional<UserInfo> userInfo = users.stream().filter(user ->
+                    user.getPickNumber() <= teams.size() && user.getUserId().equals(team.getUserId()))
+                    .findFirst();
+
+            return team.toBuilder()
+                    .userInfo(userInfo.orElseGet(() -> userService.getUserInfoFromUserCredentials(team)))
+                    .build();
+        }).collect(Collectors.toList());
+
+        draft.setDraftOrder(draftOrder);
+        draft.setTeams(enrichedTeams);
+    }
+}
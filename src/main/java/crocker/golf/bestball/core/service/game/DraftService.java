@@ -1,27 +1,24 @@
 package crocker.golf.bestball.core.service.game;
 
+import crocker.golf.bestball.core.draft.DraftRoomEngine;
 import crocker.golf.bestball.core.repository.DraftRepository;
-import crocker.golf.bestball.core.repository.GameRepository;
-import crocker.golf.bestball.core.repository.PgaRepository;
 import crocker.golf.bestball.core.repository.UserRepository;
-import crocker.golf.bestball.core.service.user.UserService;
 import crocker.golf.bestball.domain.enums.game.DraftState;
-import crocker.golf.bestball.domain.enums.game.GameState;
-import crocker.golf.bestball.domain.game.Game;
-import crocker.golf.bestball.domain.game.Team;
+import crocker.golf.bestball.domain.exceptions.game.DraftPickException;
+import crocker.golf.bestball.domain.exceptions.game.DraftRequestRejectedException;
 import crocker.golf.bestball.domain.game.draft.Draft;
-import crocker.golf.bestball.domain.pga.PgaPlayer;
+import crocker.golf.bestball.domain.game.draft.DraftPickEvent;
+import crocker.golf.bestball.domain.game.draft.DraftRejection;
 import crocker.golf.bestball.domain.user.RequestDto;
 import crocker.golf.bestball.domain.user.UserCredentials;
-import crocker.golf.bestball.domain.user.UserCredentialsDto;
-import crocker.golf.bestball.domain.user.UserInfo;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.dao.EmptyResultDataAccessException;
 
-import java.time.Duration;
-import java.time.LocalDateTime;
-import java.util.*;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 public class DraftService {
@@ -30,176 +27,83 @@ public class DraftService {
 
     private DraftRepository draftRepository;
     private UserRepository userRepository;
-    private GameRepository gameRepository;
-    private PgaRepository pgaRepository;
-    private UserService userService;
+    private DraftLoader draftLoader;
+    private DraftRoomEngine draftRoomEngine;
 
-    public DraftService(DraftRepository draftRepository, UserRepository userRepository, GameRepository gameRepository, PgaRepository pgaRepository, UserService userService) {
+    public DraftService(DraftRepository draftRepository, UserRepository userRepository, DraftLoader draftLoader, DraftRoomEngine draftRoomEngine) {
         this.draftRepository = draftRepository;
         this.userRepository = userRepository;
-        this.gameRepository = gameRepository;
-        this.pgaRepository = pgaRepository;
-        this.userService = userService;
+        this.draftLoader = draftLoader;
+        this.draftRoomEngine = draftRoomEngine;
     }
 
-    public Draft loadDraft(RequestDto requestDto) {
-        String email = requestDto.getEmail();
-        UUID draftId = UUID.fromString(requestDto.getDraftId());
-        UserCredentials userCredentials = userRepository.findByEmail(email);
-
-        Draft draft = draftRepository.getLatestDraftById(draftId);
-
-        return draft == null ? null : enrichDraft(draft, userCredentials);
-    }
-
-    public Draft draftPlayer(RequestDto requestDto, UUID playerId) {
-        String email = requestDto.getEmail();
+    public CompletableFuture<Draft> loadDraft(RequestDto requestDto) {
         UUID draftId = UUID.fromString(requestDto.getDraftId());
-        UserCredentials userCredentials = userRepository.findByEmail(email);
 
         Draft draft = draftRepository.getLatestDraftById(draftId);
-        Draft enrichedDraft = enrichDraft(draft, userCredentials);
 
-        /*
-        if (!isPlayerTurn(enrichedDraft, userCredentials)) {
-            logger.error("It is not {} turn to pick for draft {}", userCredentials.getUserName(), enrichedDraft.getDraftId());
-            // return null would be better
-            throw new RuntimeException("Draft request by ineligible user");
+        if (draft == null) {
+            return CompletableFuture.completedFuture(null);
         }
-        */
-        PgaPlayer pgaPlayer;
-
-        try {
-            pgaPlayer = draftRepository.getPgaPlayerById(enrichedDraft.getDraftId(), playerId);
-        } catch (EmptyResultDataAccessException ex) {
-            UUID tournamentId = enrichedDraft.getTeams().get(0).getTournamentId();
-            logger.error("Player not in top 200 world rankings. Seeking player from tournament field for tournament {}", tournamentId);
-
-            // to do -> all get tournament field joins on world golf rankings which is only top 200. need another updater to save ALL pga players
-            // not just top 200 fuck you tiger
-            List<PgaPlayer> tournamentField = pgaRepository.getTournamentField(tournamentId);
 
-            pgaPlayer = tournamentField.stream().filter(player -> player.getPlayerId().equals(playerId)).collect(Collectors.toList()).get(0);
-
-        } catch (Exception e) {
-            logger.error("player not found");
-            return null;
+        // a live draft is read from its room, which is ahead of the tables while picks are being written through
+        if (draft.getDraftState() == DraftState.IN_PROGRESS) {
+            return draftRoomEngine.loadDraft(draftId);
         }
 
-
-
-        updateTeam(enrichedDraft, pgaPlayer, userCredentials);
-        updateAvailablePgaPlayers(enrichedDraft, pgaPlayer);
-
-        enrichedDraft.setCurrentPick(enrichedDraft.getCurrentPick() + 1);
-        enrichedDraft.setDraftVersion(enrichedDraft.getDraftVersion() + 1);
-
-        checkForCompletion(enrichedDraft);
-
-        draftRepository.saveDraft(enrichedDraft);
-
-        return enrichedDraft;
+        return CompletableFuture.completedFuture(draftLoader.loadEnrichedDraft(draft));
     }
 
-    private Draft enrichDraft(Draft draft, UserCredentials userCredentials) {
-        Game game = gameRepository.getLatestGameByDraftId(draft.getDraftId());
-
-        Draft enrichedDraft = Draft.builder()
-                .draftId(draft.getDraftId())
-                .draftState(draft.getDraftState())
-                .draftVersion(draft.getDraftVersion())
-                .startTime(draft.getStartTime())
-                .currentPick(draft.getCurrentPick())
-                .maxPlayers(game.getNumPlayers())
-                .build();
-
-        enrichAvailablePgaPlayers(enrichedDraft);
-        enrichDraftOrderAndTeams(enrichedDraft);
-
-        return enrichedDraft;
-    }
+    public CompletableFuture<DraftPickEvent> draftPlayer(RequestDto requestDto, UUID playerId) {
+        String email = requestDto.getEmail();
+        UUID draftId = UUID.fromString(requestDto.getDraftId());
+        UUID requestId = requestDto.getRequestId() == null ? null : UUID.fromString(requestDto.getRequestId());
+        UserCredentials userCredentials = userRepository.findByEmail(email);
 
-    private void enrichAvailablePgaPlayers(Draft draft) {
-        draft.setAvailablePgaPlayers(draftRepository.getDraftablePgaPlayersByDraftId(draft.getDraftId()));
+        return rejectOnFailure(draftRoomEngine.draftPlayer(draftId, userCredentials.getUserId(), playerId, requestId), draftId, requestId,
+                "Pick of player " + playerId + " by " + email);
     }
 
-    private void enrichDraftOrderAndTeams(Draft draft) {
-        List<Team> teams = gameRepository.getTeamsByDraftId(draft.getDraftId());
-        List<UserInfo> users = draftRepository.getDraftOrderByDraftId(draft.getDraftId());
-
-        Map<Integer, UserInfo> draftOrder = users.stream()
-                .collect(Collectors.toMap(UserInfo::getPickNumber, user -> user));
-
-
-        teams.forEach(team ->  {
-            Optional<UserInfo> userInfo = users.stream().filter(user ->
-                    user.getPickNumber() <= teams.size() && user.getUserId().equals(team.getUserId()))
-                    .findFirst();
+    public CompletableFuture<List<UUID>> setPickQueue(RequestDto requestDto) {
+        String email = requestDto.getEmail();
+        UUID draftId = UUID.fromString(requestDto.getDraftId());
+        UUID requestId = requestDto.getRequestId() == null ? null : UUID.fromString(requestDto.getRequestId());
+        UserCredentials userCredentials = userRepository.findByEmail(email);
 
-            if (userInfo.isPresent()) {
-                team.setUserInfo(userInfo.get());
-            } else {
-                team.setUserInfo(userService.getUserInfoFromUserCredentials(team));
-            }
-        });
+        List<UUID> playerIds = requestDto.getPlayerIds() == null ? Collections.emptyList() : requestDto.getPlayerIds().stream()
+                .map(UUID::fromString)
+                .collect(Collectors.toList());
 
-        draft.setDraftOrder(draftOrder);
-        draft.setTeams(teams);
+        return rejectOnFailure(draftRoomEngine.setPickQueue(draftId, userCredentials.getUserId(), playerIds), draftId, requestId,
+                "Pick queue of " + email);
     }
 
-    private boolean isPlayerTurn(Draft draft, UserCredentials userCredentials) {
-        Integer currentPick = draft.getCurrentPick();
-
-        return (draft.getDraftOrder().get(currentPick).getUserId().equals(userCredentials.getUserId()));
+    public CompletableFuture<List<DraftPickEvent>> getPickEvents(UUID draftId, int sinceSequence) {
+        return draftRoomEngine.getPickEvents(draftId, sinceSequence);
     }
 
-    private void updateTeam(Draft draft, PgaPlayer pgaPlayer, UserCredentials user) {
-        List<UserInfo> draftOrder = draftRepository.getDraftOrderByDraftId(draft.getDraftId());
-        List<UserInfo> draftingUser = draftOrder.stream().filter(userInfo -> userInfo.getPickNumber().equals(draft.getCurrentPick())).collect(Collectors.toList());
-        Optional<Team> optionalDraftingTeam = draft.getTeams().stream().filter(team -> team.getUserId().equals(draftingUser.get(0).getUserId()))
-                //draft.getTeams().stream().filter(team -> team.getUserId().equals(user.getUserId()))
-                .findFirst();
+    // a failed request is answered with why, a client can only tell a rejected request from a lost one by hearing back
+    private <T> CompletableFuture<T> rejectOnFailure(CompletableFuture<T> request, UUID draftId, UUID requestId, String description) {
+        CompletableFuture<T> result = new CompletableFuture<>();
 
-        List<Team> updatedTeams = draft.getTeams().stream().filter(team -> !team.getUserId().equals(user.getUserId()))
-                .collect(Collectors.toList());
-        Team draftingTeam;
-
-        if (optionalDraftingTeam.isPresent()) {
-            draftingTeam = optionalDraftingTeam.get();
-        } else {
-            logger.error("Drafting team for user {} is not present for draft {}", user.getUserId(), draft.getDraftId());
-            throw new RuntimeException("Drafting team not present");
-        }
-
-        if (draftingTeam.getGolferOne() == null) {
-            draftingTeam.setGolferOne(pgaPlayer);
-        } else if (draftingTeam.getGolferTwo() == null) {
-            draftingTeam.setGolferTwo(pgaPlayer);
-        } else if (draftingTeam.getGolferThree() == null) {
-            draftingTeam.setGolferThree(pgaPlayer);
-        } else {
-            draftingTeam.setGolferFour(pgaPlayer);
-        }
-
-        updatedTeams.add(draftingTeam);
-        gameRepository.updateTeam(draftingTeam);
-        draft.setTeams(updatedTeams);
-    }
-
-    private void updateAvailablePgaPlayers(Draft draft, PgaPlayer pgaPlayer) {
-        draftRepository.draftPlayer(draft.getDraftId(), pgaPlayer);
-        draft.setAvailablePgaPlayers(draftRepository.getDraftablePgaPlayersByDraftId(draft.getDraftId()));
-    }
+        request.whenComplete((value, e) -> {
+            if (e == null) {
+                result.complete(value);
+                return;
+            }
 
-    private void checkForCompletion(Draft draft) {
-        if (draft.getCurrentPick() > draft.getTeams().size() * 4) {
-            draft.setDraftState(DraftState.COMPLETE);
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            boolean refused = cause instanceof DraftPickException;
+            logger.error("{} in draft {} rejected", description, draftId, cause);
 
-            Game game = gameRepository.getLatestGameByDraftId(draft.getDraftId());
-            game.setGameState(GameState.IN_PROGRESS);
-            game.setGameVersion(game.getGameVersion() + 1);
+            result.completeExceptionally(new DraftRequestRejectedException(DraftRejection.builder()
+                    .draftId(draftId)
+                    .requestId(requestId)
+                    .reason(refused ? cause.getMessage() : "Draft " + draftId + " could not take the request, try again")
+                    .retryable(!refused)
+                    .build(), cause));
+        });
 
-            gameRepository.updateGames(Collections.singletonList(game));
-        }
+        return result;
     }
 }
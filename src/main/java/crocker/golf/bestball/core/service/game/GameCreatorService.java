@@ -6,6 +6,7 @@ import crocker.golf.bestball.core.repository.PgaRepository;
 import crocker.golf.bestball.core.repository.UserRepository;
 import crocker.golf.bestball.core.util.TimeHelper;
 import crocker.golf.bestball.domain.enums.game.DraftState;
+import crocker.golf.bestball.domain.enums.game.DraftStyle;
 import crocker.golf.bestball.domain.enums.game.GameState;
 import crocker.golf.bestball.domain.enums.game.GameType;
 import crocker.golf.bestball.domain.enums.game.TeamRole;
@@ -33,15 +34,20 @@ public class GameCreatorService {
     private final UserRepository userRepository;
     private final PgaRepository pgaRepository;
     private final DraftManager draftManager;
+    private final DraftStyle draftStyle;
+    private final int draftRounds;
 
     private BigDecimal feeMultiplier;
 
-    public GameCreatorService(GameValidator gameValidator, GameRepository gameRepository, UserRepository userRepository, PgaRepository pgaRepository, DraftManager draftManager) {
+    public GameCreatorService(GameValidator gameValidator, GameRepository gameRepository, UserRepository userRepository, PgaRepository pgaRepository, DraftManager draftManager,
+                              DraftStyle draftStyle, int draftRounds) {
         this.gameValidator = gameValidator;
         this.gameRepository = gameRepository;
         this.userRepository = userRepository;
         this.pgaRepository = pgaRepository;
         this.draftManager = draftManager;
+        this.draftStyle = draftStyle;
+        this.draftRounds = draftRounds;
 
         feeMultiplier = new BigDecimal(0.01);
     }
@@ -160,6 +166,8 @@ public class GameCreatorService {
                 .draftState(DraftState.NOT_STARTED)
                 .draftVersion(1)
                 .currentPick(1)
+                .draftStyle(draftStyle)
+                .rounds(draftRounds)
                 .build();
 
         draftManager.scheduleDraft(draft);
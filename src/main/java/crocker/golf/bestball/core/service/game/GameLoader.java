@@ -0,0 +1,103 @@
+package crocker.golf.bestball.core.service.game;
+
+import crocker.golf.bestball.core.repository.GameRepository;
+import crocker.golf.bestball.core.repository.PgaRepository;
+import crocker.golf.bestball.domain.game.Game;
+import crocker.golf.bestball.domain.game.GameAggregate;
+import crocker.golf.bestball.domain.game.Team;
+import crocker.golf.bestball.domain.game.round.TeamRound;
+import crocker.golf.bestball.domain.pga.PgaPlayer;
+import crocker.golf.bestball.domain.pga.tournament.PlayerRound;
+import crocker.golf.bestball.domain.pga.tournament.Tournament;
+import crocker.golf.bestball.domain.user.UserCredentials;
+import crocker.golf.bestball.domain.user.UserInfo;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class GameLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameLoader.class);
+
+    private final GameRepository gameRepository;
+    private final PgaRepository pgaRepository;
+
+    public GameLoader(GameRepository gameRepository, PgaRepository pgaRepository) {
+        this.gameRepository = gameRepository;
+        this.pgaRepository = pgaRepository;
+    }
+
+    public Game loadEnrichedGame(Game game) {
+        UUID tournamentId = game.getTournament().getTournamentId();
+        GameAggregate aggregate = gameRepository.getGameAggregate(game.getGameId(), tournamentId);
+
+        Map<UUID, List<PlayerRound>> playerRoundsByPlayerId = aggregate.getPlayerRounds().stream()
+                .collect(Collectors.groupingBy(PlayerRound::getPlayerId));
+        Map<UUID, List<TeamRound>> teamRoundsByTeamId = aggregate.getTeamRounds().stream()
+                .collect(Collectors.groupingBy(TeamRound::getTeamId));
+        Map<UUID, UserCredentials> usersByUserId = aggregate.getUsers().stream()
+                .collect(Collectors.toMap(UserCredentials::getUserId, user -> user));
+
+        // the aggregate may be shared with other requests for the same game, so build new teams rather than set on it
+        List<Team> teams = aggregate.getTeams().stream()
+                .map(team -> withRoundsAndUser(team, playerRoundsByPlayerId, teamRoundsByTeamId, usersByUserId))
+                .collect(Collectors.toList());
+
+        return game.toBuilder()
+                .tournament(getEnrichedTournament(game.getTournament()))
+                .teams(teams)
+                .build();
+    }
+
+    private Team withRoundsAndUser(Team team, Map<UUID, List<PlayerRound>> playerRoundsByPlayerId,
+                                   Map<UUID, List<TeamRound>> teamRoundsByTeamId, Map<UUID, UserCredentials> usersByUserId) {
+        return team.toBuilder()
+                .golferOne(withRounds(team.getGolferOne(), playerRoundsByPlayerId))
+                .golferTwo(withRounds(team.getGolferTwo(), playerRoundsByPlayerId))
+                .golferThree(withRounds(team.getGolferThree(), playerRoundsByPlayerId))
+                .golferFour(withRounds(team.getGolferFour(), playerRoundsByPlayerId))
+                .teamRounds(teamRoundsByTeamId.getOrDefault(team.getTeamId(), Collections.emptyList()))
+                .userInfo(getUserInfo(team, usersByUserId))
+                .build();
+    }
+
+    private PgaPlayer withRounds(PgaPlayer pgaPlayer, Map<UUID, List<PlayerRound>> playerRoundsByPlayerId) {
+        if (pgaPlayer == null) {
+            return null;
+        }
+
+        // golfers are shared with the cached world rankings, copy them with their rounds rather than touch the originals
+        return pgaPlayer.toBuilder()
+                .rounds(playerRoundsByPlayerId.getOrDefault(pgaPlayer.getPlayerId(), Collections.emptyList()))
+                .build();
+    }
+
+    private UserInfo getUserInfo(Team team, Map<UUID, UserCredentials> usersByUserId) {
+        UserCredentials userCredentials = usersByUserId.get(team.getUserId());
+
+        if (userCredentials == null) {
+            logger.error("Unable to find matching user for team {} and draft {}", team.getTeamId(), team.getDraftId());
+            return null;
+        }
+
+        return UserInfo.builder()
+                .email(userCredentials.getEmail())
+                .userName(userCredentials.getUserName())
+                .userId(userCredentials.getUserId())
+                .build();
+    }
+
+    private Tournament getEnrichedTournament(Tournament tournament) {
+        UUID tournamentId = tournament.getTournamentId();
+
+        return tournament.toBuilder()
+                .tournamentCourses(pgaRepository.getTournamentCourses(tournamentId))
+                .tournamentRounds(pgaRepository.getTournamentRounds(tournamentId))
+                .build();
+    }
+}
@@ -4,13 +4,13 @@ import crocker.golf.bestball.core.repository.DraftRepository;
 import crocker.golf.bestball.core.repository.GameRepository;
 import crocker.golf.bestball.core.repository.PgaRepository;
 import crocker.golf.bestball.core.repository.UserRepository;
-import crocker.golf.bestball.core.service.user.UserService;
 import crocker.golf.bestball.domain.enums.game.GameState;
 import crocker.golf.bestball.domain.enums.game.ScoreType;
 import crocker.golf.bestball.domain.enums.game.TeamRole;
 import crocker.golf.bestball.domain.enums.pga.TournamentState;
 import crocker.golf.bestball.domain.exceptions.game.TeamNotAuthorizedException;
 import crocker.golf.bestball.domain.game.Game;
+import crocker.golf.bestball.domain.game.GameView;
 import crocker.golf.bestball.domain.game.Team;
 import crocker.golf.bestball.domain.game.round.TeamRound;
 import crocker.golf.bestball.domain.pga.PgaPlayer;
@@ -33,25 +33,24 @@ public class GameManagerService {
     private DraftRepository draftRepository;
     private final UserRepository userRepository;
     private final PgaRepository pgaRepository;
-    private final UserService userService;
+    private final GameViewStore gameViewStore;
+    private final TeamScoreWriter teamScoreWriter;
 
-    public GameManagerService(GameRepository gameRepository, DraftRepository draftRepository, UserRepository userRepository, PgaRepository pgaRepository, UserService userService) {
+    public GameManagerService(GameRepository gameRepository, DraftRepository draftRepository, UserRepository userRepository, PgaRepository pgaRepository, GameViewStore gameViewStore, TeamScoreWriter teamScoreWriter) {
         this.gameRepository = gameRepository;
         this.draftRepository = draftRepository;
         this.userRepository = userRepository;
         this.pgaRepository = pgaRepository;
-        this.userService = userService;
+        this.gameViewStore = gameViewStore;
+        this.teamScoreWriter = teamScoreWriter;
     }
 
-    public Game loadGame(RequestDto requestDto) {
+    public GameView loadGame(RequestDto requestDto) {
         UUID gameId = UUID.fromString(requestDto.getGameId());
-        Game game = gameRepository.getLatestGameByGameId(gameId);
-        UserCredentials userCredentials = userRepository.findByEmail(requestDto.getEmail());
+        GameView gameView = gameViewStore.getGameView(gameId);
 
-        if (game.getGameState() == GameState.NOT_STARTED) {
-            return game;
-        }
-        return enrichGame(game, userCredentials);
+        logger.info("Game {} view at version {} loaded for {}", gameId, gameView.getGameVersion(), requestDto.getEmail());
+        return gameView;
     }
 
     public void deleteGame(RequestDto requestDto) throws TeamNotAuthorizedException {
@@ -69,6 +68,8 @@ public class GameManagerService {
     }
 
     public void updateGames() {
+        startDraftedGames();
+
         List<Game> activeGames = gameRepository.getInProgressGames();
         logger.info("Updating scores for {} active games.", activeGames.size());
 
@@ -81,8 +82,7 @@ public class GameManagerService {
                 .distinct()
                 .collect(Collectors.toList());
 
-        HashMap<UUID, List<Team>> batchTeams = new HashMap<>();
-        HashMap<UUID, List<TeamRound>> batchTeamRounds = new HashMap<>();
+        List<Team> scoredTeams = new ArrayList<>();
 
         logger.info("Updating game scores for {} different tournaments", tournaments.size());
         tournaments.forEach(tournamentId -> {
@@ -90,25 +90,10 @@ public class GameManagerService {
             List<PlayerRound> playerRounds = pgaRepository.getPlayerRoundsByTournamentId(tournamentId);
             List<Team> teams = gameRepository.getTeamsByTournamentId(tournamentId);
 
-            teams = teams.stream()
+            teams.stream()
                     .filter(team -> gameIds.contains(team.getGameId()))
-                    .collect(Collectors.toList());
-
-            teams.forEach(team -> {
-                    enrichTeamRounds(team, playerRounds);
-
-                    if (batchTeams.containsKey(team.getGameId())) {
-                        batchTeams.get(team.getGameId()).add(team);
-                    } else {
-                        batchTeams.put(team.getGameId(), new ArrayList<>(Arrays.asList(team)));
-                    }
-
-                    if (batchTeamRounds.containsKey(team.getGameId())) {
-                        batchTeamRounds.get(team.getGameId()).addAll(team.getTeamRounds());
-                    } else {
-                        batchTeamRounds.put(team.getGameId(), team.getTeamRounds());
-                    }
-            });
+                    .map(team -> scoreTeam(team, playerRounds))
+                    .forEach(scoredTeams::add);
 
             Tournament tournament = pgaRepository.getTournamentById(tournamentId);
 
@@ -117,11 +102,12 @@ public class GameManagerService {
             }
         });
 
-        batchTeams.keySet().forEach(gameId -> {
-            gameRepository.updateTeamRounds(gameId, batchTeamRounds.get(gameId));
-            gameRepository.updateTeams(batchTeams.get(gameId));
-        });
-
+        try {
+            teamScoreWriter.publish(scoredTeams);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while publishing scores for {} teams", scoredTeams.size());
+        }
     }
 
     private void completeGame(List<Game> activeGames, Tournament tournament) {
@@ -134,7 +120,8 @@ public class GameManagerService {
         gameRepository.updateGames(gamesToUpdate);
     }
 
-    private void enrichTeamRounds(Team team, List<PlayerRound> playerRounds) {
+    // cached teams are shared with readers, scores go on a new copy that the writer persists
+    private Team scoreTeam(Team team, List<PlayerRound> playerRounds) {
         List<TeamRound> teamRounds = new ArrayList<>();
         for(int roundNumber = 1; roundNumber <= 4; roundNumber++) {
             TeamRound teamRound = getTeamRound(team, playerRounds, roundNumber);
@@ -144,9 +131,11 @@ public class GameManagerService {
 
         int toPar = teamRounds.stream().mapToInt(TeamRound::getToPar).sum();
         int strokes = teamRounds.stream().mapToInt(TeamRound::getStrokes).sum();
-        team.setTeamRounds(teamRounds);
-        team.setToPar(toPar);
-        team.setTotalStrokes(strokes);
+        return team.toBuilder()
+                .teamRounds(teamRounds)
+                .toPar(toPar)
+                .totalStrokes(strokes)
+                .build();
     }
 
     private TeamRound getTeamRound(Team team, List<PlayerRound> playerRounds, int roundNumber) {
@@ -229,60 +218,20 @@ public class GameManagerService {
         return players.stream().anyMatch(pgaPlayer -> pgaPlayer.getPlayerId().equals(playerId));
     }
 
-    private Game enrichGame(Game game, UserCredentials userCredentials) {
-        Game enrichedGame = Game.builder()
-                .gameId(game.getGameId())
-                .gameState(game.getGameState())
-                .gameVersion(game.getGameVersion())
-                .gameType(game.getGameType())
-                .draftId(game.getDraftId())
-                .tournament(game.getTournament())
-                .numPlayers(game.getNumPlayers())
-                .buyIn(game.getBuyIn())
-                .moneyPot(game.getMoneyPot())
-                .build();
-
-        enrichTeams(enrichedGame);
-        enrichTournament(enrichedGame);
-
-        logger.info("Enriched game {} loaded for {}", game.getGameId(), userCredentials.getEmail());
-        return enrichedGame;
-    }
-
-    private void enrichTeams(Game game) {
-        List<Team> teams = gameRepository.getTeamsByDraftId(game.getDraftId());
-        List<PlayerRound> playerRounds = pgaRepository.getPlayerRoundsByTournamentId(game.getTournament().getTournamentId());
-        List<TeamRound> allTeamRounds = gameRepository.getTeamRoundsByGameId(game.getGameId());
-
-        teams.forEach(team -> {
-            enrichPlayerRounds(team.getGolferOne(), playerRounds);
-            enrichPlayerRounds(team.getGolferTwo(), playerRounds);
-            enrichPlayerRounds(team.getGolferThree(), playerRounds);
-            enrichPlayerRounds(team.getGolferFour(), playerRounds);
-
-            List<TeamRound> teamRounds = allTeamRounds.stream()
-                    .filter(teamRound -> teamRound.getTeamId().equals(team.getTeamId()))
-                    .collect(Collectors.toList());
-
-            team.setTeamRounds(teamRounds);
-            team.setUserInfo(userService.getUserInfoFromUserCredentials(team));
-        });
-
-        game.setTeams(teams);
-    }
-
-    private void enrichTournament(Game game) {
-        Tournament tournament = game.getTournament();
-
-        tournament.setTournamentCourses(pgaRepository.getTournamentCourses(tournament.getTournamentId()));
-        tournament.setTournamentRounds(pgaRepository.getTournamentRounds(tournament.getTournamentId()));
-    }
+    // the draft projector starts a game as its draft completes, this picks up any start that failed after the draft was written
+    private void startDraftedGames() {
+        try {
+            List<Game> draftedGames = gameRepository.getDraftedGamesNotStarted();
 
-    private void enrichPlayerRounds(PgaPlayer pgaPlayer, List<PlayerRound> allPlayerRounds) {
-        List<PlayerRound> playerRounds = allPlayerRounds.stream()
-                .filter(playerRound -> playerRound.getPlayerId().equals(pgaPlayer.getPlayerId()))
-                .collect(Collectors.toList());
-
-        pgaPlayer.setRounds(playerRounds);
+            if (!draftedGames.isEmpty()) {
+                logger.warn("Starting {} games whose drafts completed without starting them", draftedGames.size());
+                gameRepository.updateGames(draftedGames.stream()
+                        .map(game -> game.updateGameState(GameState.IN_PROGRESS))
+                        .collect(Collectors.toList()));
+            }
+        } catch (Exception e) {
+            // a projector writing the same start wins the version, the next sweep finds nothing left to do
+            logger.error("Unable to start games with completed drafts", e);
+        }
     }
 }
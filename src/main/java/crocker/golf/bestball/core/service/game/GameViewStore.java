@@ -0,0 +1,58 @@
+package crocker.golf.bestball.core.service.game;
+
+import crocker.golf.bestball.core.repository.GameRepository;
+import crocker.golf.bestball.core.util.ViewSerializer;
+import crocker.golf.bestball.domain.enums.game.GameState;
+import crocker.golf.bestball.domain.game.Game;
+import crocker.golf.bestball.domain.game.GameView;
+import crocker.golf.bestball.domain.view.SerializedView;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+
+import java.util.UUID;
+
+public class GameViewStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(GameViewStore.class);
+
+    private final GameRepository gameRepository;
+    private final GameLoader gameLoader;
+    private final ViewSerializer viewSerializer;
+
+    public GameViewStore(GameRepository gameRepository, GameLoader gameLoader, ViewSerializer viewSerializer) {
+        this.gameRepository = gameRepository;
+        this.gameLoader = gameLoader;
+        this.viewSerializer = viewSerializer;
+    }
+
+    @Cacheable(value = "gameViewByGameId", key = "#gameId", sync = true)
+    public GameView getGameView(UUID gameId) {
+        return buildGameView(gameId);
+    }
+
+    // called from the write path once new scores are stored, so readers find the view already built
+    @CachePut(value = "gameViewByGameId", key = "#gameId")
+    public GameView refreshGameView(UUID gameId) {
+        return buildGameView(gameId);
+    }
+
+    private GameView buildGameView(UUID gameId) {
+        Game game = gameRepository.getLatestGameByGameId(gameId);
+        Game viewGame = game.getGameState() == GameState.NOT_STARTED ? game : gameLoader.loadEnrichedGame(game);
+
+        SerializedView serializedView = viewSerializer.serialize(viewGame.getGameVersion(), viewGame);
+
+        GameView gameView = GameView.builder()
+                .gameId(gameId)
+                .gameVersion(viewGame.getGameVersion())
+                .game(viewGame)
+                .etag(serializedView.getEtag())
+                .json(serializedView.getJson())
+                .build();
+
+        logger.info("Built view of game {} at version {} ({} bytes)", gameId, gameView.getGameVersion(), gameView.getJson().length);
+        return gameView;
+    }
+}
@@ -3,12 +3,15 @@ package crocker.golf.bestball.core.service.game;
 import crocker.golf.bestball.core.repository.DraftRepository;
 import crocker.golf.bestball.core.repository.GameRepository;
 import crocker.golf.bestball.core.repository.UserRepository;
+import crocker.golf.bestball.core.util.ViewSerializer;
+import crocker.golf.bestball.domain.enums.game.GameState;
 import crocker.golf.bestball.domain.game.Game;
 import crocker.golf.bestball.domain.game.Team;
 import crocker.golf.bestball.domain.game.TeamInfo;
 import crocker.golf.bestball.domain.game.draft.Draft;
 import crocker.golf.bestball.domain.user.UserCredentials;
 import crocker.golf.bestball.domain.user.UserCredentialsDto;
+import crocker.golf.bestball.domain.view.SerializedView;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,20 +21,53 @@ public class InfoService {
     private DraftRepository draftRepository;
     private GameRepository gameRepository;
     private UserRepository userRepository;
+    private GameViewStore gameViewStore;
+    private ViewSerializer viewSerializer;
 
-    public InfoService(DraftRepository draftRepository, GameRepository gameRepository, UserRepository userRepository) {
+    public InfoService(DraftRepository draftRepository, GameRepository gameRepository, UserRepository userRepository,
+                       GameViewStore gameViewStore, ViewSerializer viewSerializer) {
         this.draftRepository = draftRepository;
         this.gameRepository = gameRepository;
         this.userRepository = userRepository;
+        this.gameViewStore = gameViewStore;
+        this.viewSerializer = viewSerializer;
+    }
+
+    // tagged from the cached versions behind each team, an unchanged response is answered without enriching it.
+    // the view is left without json when the tag matches
+    public SerializedView getTeamInfoView(UserCredentialsDto userCredentialsDto, String ifNoneMatch) {
+        List<Team> teams = getTeams(userCredentialsDto);
+        String etag = ViewSerializer.versionTag(teamInfoVersion(teams));
+
+        if (ViewSerializer.isNotModified(ifNoneMatch, etag)) {
+            return SerializedView.builder().etag(etag).build();
+        }
+
+        return viewSerializer.serialize(etag, enrichTeamInfo(teams));
     }
 
     public List<TeamInfo> getTeamInfo(UserCredentialsDto userCredentialsDto) {
+        return enrichTeamInfo(getTeams(userCredentialsDto));
+    }
+
+    private List<Team> getTeams(UserCredentialsDto userCredentialsDto) {
         String email = userCredentialsDto.getEmail();
         UserCredentials userCredentials = userRepository.findByEmail(email);
 
-        List<Team> teams = gameRepository.getTeamsByUserId(userCredentials.getUserId());
+        return gameRepository.getTeamsByUserId(userCredentials.getUserId());
+    }
+
+    // every pick saves a new draft version and joins add teams to the draft. scores land on teams without a new
+    // game version, so games being played also carry the tag of their view, which is rebuilt on every scoring tick
+    private String teamInfoVersion(List<Team> teams) {
+        return teams.stream().map(team -> {
+            Draft draft = draftRepository.getLatestDraftById(team.getDraftId());
+            Game game = gameRepository.getLatestGameByGameId(team.getGameId());
+            String scores = game.getGameState() == GameState.IN_PROGRESS ? gameViewStore.getGameView(game.getGameId()).getEtag() : "";
 
-        return enrichTeamInfo(teams);
+            return team.getTeamId() + ":" + draft.getDraftVersion() + ":" + gameRepository.getTeamsByDraftId(team.getDraftId()).size() +
+                    ":" + game.getGameVersion() + ":" + scores;
+        }).collect(Collectors.joining(","));
     }
 
     private List<TeamInfo> enrichTeamInfo(List<Team> teams) {
@@ -46,7 +82,6 @@ public class InfoService {
     private Draft teamInfoDraftEnrichment(Team team) {
         Draft draft = draftRepository.getLatestDraftById(team.getDraftId());
         List<Team> teams = gameRepository.getTeamsByDraftId(team.getDraftId());
-        draft.setTeams(teams);
-        return draft;
+        return draft.toBuilder().teams(teams).build();
     }
 }
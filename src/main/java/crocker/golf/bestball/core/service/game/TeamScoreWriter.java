@@ -0,0 +1,164 @@
+package crocker.golf.bestball.core.service.game;
+
+import crocker.golf.bestball.core.repository.GameRepository;
+import crocker.golf.bestball.domain.game.Team;
+import crocker.golf.bestball.domain.game.round.TeamRound;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+public class TeamScoreWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(TeamScoreWriter.class);
+
+    private final GameRepository gameRepository;
+    private final GameViewStore gameViewStore;
+    private final int capacity;
+    private final long flushIntervalMillis;
+
+    // keyed by team so a newer score for the same team replaces the one still waiting to be written
+    private final Map<UUID, Team> pending = new LinkedHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final Condition notFull = lock.newCondition();
+
+    private volatile boolean running;
+    private Thread writerThread;
+
+    public TeamScoreWriter(GameRepository gameRepository, GameViewStore gameViewStore, int capacity, long flushIntervalMillis) {
+        this.gameRepository = gameRepository;
+        this.gameViewStore = gameViewStore;
+        this.capacity = capacity;
+        this.flushIntervalMillis = flushIntervalMillis;
+    }
+
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::writeLoop, "team-score-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+    }
+
+    public void stop() throws InterruptedException {
+        running = false;
+        writerThread.interrupt();
+        writerThread.join(TimeUnit.SECONDS.toMillis(10));
+        flush();
+    }
+
+    public void publish(List<Team> teams) throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            for (Team team : teams) {
+                // only a team not already queued takes up space, so backpressure applies to new work
+                while (pending.size() >= capacity && !pending.containsKey(team.getTeamId())) {
+                    // the writer may still be waiting for the teams queued so far, it has to be woken before this waits on it
+                    notEmpty.signal();
+                    notFull.await();
+                }
+                pending.put(team.getTeamId(), team);
+            }
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void writeLoop() {
+        while (running) {
+            try {
+                awaitPending();
+                Thread.sleep(flushIntervalMillis);
+                flush();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                logger.error("Team score writer failed to flush", e);
+            }
+        }
+    }
+
+    private void awaitPending() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (pending.isEmpty()) {
+                notEmpty.await();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void flush() {
+        List<Team> teams = drain();
+
+        if (teams.isEmpty()) {
+            return;
+        }
+
+        List<TeamRound> teamRounds = teams.stream()
+                .map(Team::getTeamRounds)
+                .filter(Objects::nonNull)
+                .flatMap(List::stream)
+                .collect(Collectors.toList());
+
+        try {
+            gameRepository.writeTeamScores(teams, teamRounds);
+        } catch (Exception e) {
+            logger.error("Unable to write scores for {} teams, re-queueing", teams.size(), e);
+            requeue(teams);
+            return;
+        }
+
+        logger.info("Wrote {} teams and {} team rounds", teams.size(), teamRounds.size());
+        refreshGameViews(teams);
+    }
+
+    private void refreshGameViews(List<Team> teams) {
+        teams.stream()
+                .map(Team::getGameId)
+                .distinct()
+                .forEach(gameId -> {
+                    try {
+                        gameViewStore.refreshGameView(gameId);
+                    } catch (Exception e) {
+                        // the write already evicted the view, readers will rebuild it on demand
+                        logger.error("Unable to refresh view of game {}", gameId, e);
+                    }
+                });
+    }
+
+    private List<Team> drain() {
+        lock.lock();
+        try {
+            List<Team> teams = new ArrayList<>(pending.values());
+            pending.clear();
+            notFull.signalAll();
+            return teams;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void requeue(List<Team> teams) {
+        lock.lock();
+        try {
+            // anything published since the drain is newer than the failed write and wins
+            teams.forEach(team -> pending.putIfAbsent(team.getTeamId(), team));
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+}
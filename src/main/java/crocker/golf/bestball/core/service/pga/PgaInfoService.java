@@ -1,35 +1,35 @@
 package crocker.golf.bestball.core.service.pga;
 
 import crocker.golf.bestball.core.repository.PgaRepository;
-import crocker.golf.bestball.core.util.TimeHelper;
-import crocker.golf.bestball.domain.enums.pga.TournamentState;
+import crocker.golf.bestball.core.util.ViewSerializer;
 import crocker.golf.bestball.domain.pga.tournament.Tournament;
+import crocker.golf.bestball.domain.view.SerializedView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.Cacheable;
 
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 public class PgaInfoService {
 
     private static final Logger logger = LoggerFactory.getLogger(PgaUpdateService.class);
 
     private PgaRepository pgaRepository;
+    private ViewSerializer viewSerializer;
 
-    public PgaInfoService(PgaRepository pgaRepository) {
+    public PgaInfoService(PgaRepository pgaRepository, ViewSerializer viewSerializer) {
         this.pgaRepository = pgaRepository;
+        this.viewSerializer = viewSerializer;
     }
 
-    public List<Tournament> getUpcomingTournaments() {
+    // only changes when the season schedule is updated, which evicts it
+    @Cacheable(value = "upcomingTournaments", key = "#season", sync = true)
+    public SerializedView getUpcomingTournamentsView(int season) {
+        return viewSerializer.serialize(season, getUpcomingTournaments(season));
+    }
+
+    public List<Tournament> getUpcomingTournaments(int season) {
         //TODO: Need to make call for both 2020 and 2021 as the season ends in Sept
-        List<Tournament> tournaments = pgaRepository.getTournamentsBySeason(TimeHelper.getCurrentSeason());
-
-        return tournaments.stream()
-                .filter(tournament -> tournament.getTournamentState() == TournamentState.NOT_STARTED || tournament.getTournamentState() == TournamentState.IN_PROGRESS )
-                .sorted(Comparator.comparing(Tournament::getStartDate))
-                .collect(Collectors.toList());
-        //
-        //
+        return pgaRepository.getTournamentIndex().getUpcomingTournamentsBySeason(season);
     }
 }
@@ -10,10 +10,8 @@ import crocker.golf.bestball.domain.pga.tournament.TournamentRound;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.Future;
-import java.util.stream.Collectors;
 
 public class PgaUpdateService {
 
@@ -46,12 +44,7 @@ public class PgaUpdateService {
     }
 
     public void updateTournamentDetails() {
-        List<Tournament> allTournaments = pgaRepository.getAllTournaments();
-        List<Tournament> tournaments = allTournaments.stream()
-                .filter(tournament -> tournament.getTournamentState() == TournamentState.NOT_STARTED || tournament.getTournamentState() == TournamentState.IN_PROGRESS)
-                .sorted(Comparator.comparing(Tournament::getStartDate))
-                .limit(2)
-                .collect(Collectors.toList());
+        List<Tournament> tournaments = pgaRepository.getTournamentIndex().getUpcomingTournaments(2);
 
         tournaments.forEach(tournament -> {
             try {
@@ -69,12 +62,14 @@ public class PgaUpdateService {
     }
 
     public void updateTournamentRound() {
-        List<Tournament> tournaments = pgaRepository.getInProgressTournaments();
+        List<Tournament> tournaments = pgaRepository.getTournamentIndex().getTournamentsByState(TournamentState.IN_PROGRESS);
 
-        tournaments.forEach(tournament -> {
+        tournaments.forEach(cachedTournament -> {
 
-            tournament.setTournamentCourses(pgaRepository.getTournamentCourses(tournament.getTournamentId()));
-            tournament.setTournamentRounds(pgaRepository.getTournamentRounds(tournament.getTournamentId()));
+            Tournament tournament = cachedTournament.toBuilder()
+                    .tournamentCourses(pgaRepository.getTournamentCourses(cachedTournament.getTournamentId()))
+                    .tournamentRounds(pgaRepository.getTournamentRounds(cachedTournament.getTournamentId()))
+                    .build();
 
             tournament.getTournamentRounds().forEach(tournamentRound -> {
                 try {
@@ -91,6 +86,9 @@ public class PgaUpdateService {
                 }
 
             });
+
+            // reloaded once per tournament after all of its rounds are written, not once per round
+            pgaRepository.refreshPlayerRounds(tournament.getTournamentId());
         });
 
     }
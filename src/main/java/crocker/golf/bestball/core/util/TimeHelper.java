@@ -14,6 +14,10 @@ public class TimeHelper {
         return Year.now(TIME_ZONE).getValue();
     }
 
+    public static LocalDateTime getCurrentTime() {
+        return LocalDateTime.now(TIME_ZONE);
+    }
+
     public static LocalDateTime getExactReleaseTime(ZonedDateTime date) {
         return date.withZoneSameInstant(TIME_ZONE).toLocalDateTime().truncatedTo(ChronoUnit.MINUTES);
     }
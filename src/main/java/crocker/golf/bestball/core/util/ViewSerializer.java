@@ -0,0 +1,60 @@
+package crocker.golf.bestball.core.util;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import crocker.golf.bestball.domain.view.SerializedView;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+public class ViewSerializer {
+
+    private final ObjectMapper objectMapper;
+
+    public ViewSerializer(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // the tag leads with the version it was built from, the content hash keeps it exact across nodes
+    public SerializedView serialize(Object version, Object value) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(value);
+            String etag = "\"" + version + "-" + Hashing.murmur3_128().hashBytes(json) + "\"";
+
+            return SerializedView.builder()
+                    .etag(etag)
+                    .json(json)
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize view at version " + version, e);
+        }
+    }
+
+    // for views tagged by the versions they are built from, so a matching request is answered before building them
+    public SerializedView serialize(String etag, Object value) {
+        try {
+            return SerializedView.builder()
+                    .etag(etag)
+                    .json(objectMapper.writeValueAsBytes(value))
+                    .build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize view tagged " + etag, e);
+        }
+    }
+
+    public static String versionTag(String version) {
+        return "\"" + Hashing.murmur3_128().hashString(version, StandardCharsets.UTF_8) + "\"";
+    }
+
+    public static boolean isNotModified(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null || etag == null) {
+            return false;
+        }
+
+        return Arrays.stream(ifNoneMatch.split(","))
+                .map(String::trim)
+                .map(tag -> tag.startsWith("W/") ? tag.substring(2) : tag)
+                .anyMatch(tag -> tag.equals("*") || tag.equals(etag));
+    }
+}
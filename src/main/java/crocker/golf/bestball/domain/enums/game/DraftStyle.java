@@ -0,0 +1,7 @@
+package crocker.golf.bestball.domain.enums.game;
+
+public enum DraftStyle {
+    SNAKE,
+    LINEAR,
+    THIRD_ROUND_REVERSAL
+}
@@ -2,5 +2,6 @@ package crocker.golf.bestball.domain.enums.game;
 
 public enum ReleaseStatus {
     RELEASED,
+    PREPARED,
     NOT_RELEASED
 }
@@ -0,0 +1,7 @@
+package crocker.golf.bestball.domain.exceptions.game;
+
+public class DraftPickException extends Exception {
+    public DraftPickException(String message) {
+        super(message);
+    }
+}
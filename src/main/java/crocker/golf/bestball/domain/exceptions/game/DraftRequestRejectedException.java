@@ -0,0 +1,18 @@
+package crocker.golf.bestball.domain.exceptions.game;
+
+import crocker.golf.bestball.domain.game.draft.DraftRejection;
+
+// unchecked so it can fail the future a draft request is answered through
+public class DraftRequestRejectedException extends RuntimeException {
+
+    private final DraftRejection rejection;
+
+    public DraftRequestRejectedException(DraftRejection rejection, Throwable cause) {
+        super(rejection.getReason(), cause);
+        this.rejection = rejection;
+    }
+
+    public DraftRejection getRejection() {
+        return rejection;
+    }
+}
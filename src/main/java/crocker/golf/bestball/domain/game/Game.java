@@ -11,7 +11,7 @@ import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @Setter
 public class Game {
@@ -30,8 +30,11 @@ public class Game {
 
     private List<Team> teams;
 
+    // returns a new version rather than changing this one, which may be shared through the cache
     public Game updateGameState(GameState gameState) {
-        this.gameState = gameState;
-        return this;
+        return this.toBuilder()
+                .gameState(gameState)
+                .gameVersion(gameVersion + 1)
+                .build();
     }
 }
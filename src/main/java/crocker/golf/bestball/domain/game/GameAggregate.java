@@ -0,0 +1,19 @@
+package crocker.golf.bestball.domain.game;
+
+import crocker.golf.bestball.domain.game.round.TeamRound;
+import crocker.golf.bestball.domain.pga.tournament.PlayerRound;
+import crocker.golf.bestball.domain.user.UserCredentials;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+@Builder
+@Getter
+public class GameAggregate {
+
+    private List<Team> teams;
+    private List<UserCredentials> users;
+    private List<TeamRound> teamRounds;
+    private List<PlayerRound> playerRounds;
+}
@@ -0,0 +1,21 @@
+package crocker.golf.bestball.domain.game;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Builder
+@Getter
+public class GameView {
+
+    private final UUID gameId;
+    private final Integer gameVersion;
+    private final Game game;
+
+    // changes with every new version or score, polling clients send it back to skip an unchanged game
+    private final String etag;
+
+    // the game already serialized, loadGame writes these bytes straight to the response
+    private final byte[] json;
+}
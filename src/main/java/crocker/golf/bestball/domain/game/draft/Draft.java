@@ -1,6 +1,7 @@
 package crocker.golf.bestball.domain.game.draft;
 
 import crocker.golf.bestball.domain.enums.game.DraftState;
+import crocker.golf.bestball.domain.enums.game.DraftStyle;
 import crocker.golf.bestball.domain.game.Team;
 import crocker.golf.bestball.domain.pga.PgaPlayer;
 import crocker.golf.bestball.domain.user.UserCredentials;
@@ -15,7 +16,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
 @Setter
 public class Draft {
@@ -29,8 +30,16 @@ public class Draft {
     private LocalDateTime startTime;
     @NonNull
     private Integer currentPick;
+    @NonNull
+    private DraftStyle draftStyle;
+    @NonNull
+    private Integer rounds;
+
+    private LocalDateTime pickDeadline;
 
     private List<PgaPlayer> availablePgaPlayers;
+    // the whole pool in pool order, what binary pick frames index players by
+    private List<UUID> poolPlayerIds;
     private Map<Integer, UserInfo> draftOrder;
 
     private List<Team> teams;
@@ -0,0 +1,75 @@
+package crocker.golf.bestball.domain.game.draft;
+
+import crocker.golf.bestball.domain.enums.game.DraftStyle;
+import crocker.golf.bestball.domain.user.UserInfo;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// only the round one order is stored, every later pick is worked out from it
+public class DraftOrder {
+
+    // a team holds four golfers, a draft can not run more rounds than that
+    public static final int MAX_ROUNDS = 4;
+
+    // index 0 picks first in round one
+    private final List<UserInfo> baseOrder;
+    private final DraftStyle draftStyle;
+    private final int rounds;
+
+    public DraftOrder(List<UserInfo> baseOrder, DraftStyle draftStyle, int rounds) {
+        this.baseOrder = Collections.unmodifiableList(baseOrder);
+        this.draftStyle = draftStyle;
+        this.rounds = Math.min(rounds, MAX_ROUNDS);
+    }
+
+    public int getRounds() {
+        return rounds;
+    }
+
+    public int getTotalPicks() {
+        return baseOrder.size() * rounds;
+    }
+
+    public UserInfo getUser(int pickNumber) {
+        return pickNumber < 1 || pickNumber > getTotalPicks() ? null : baseOrder.get(getSlot(pickNumber));
+    }
+
+    // index into the round one order of whoever owns an overall pick
+    public int getSlot(int pickNumber) {
+        int round = (pickNumber - 1) / baseOrder.size();
+        int index = (pickNumber - 1) % baseOrder.size();
+
+        return isReversed(round) ? baseOrder.size() - 1 - index : index;
+    }
+
+    // the whole order keyed by overall pick, as clients have always received it
+    public Map<Integer, UserInfo> toPickMap() {
+        Map<Integer, UserInfo> pickMap = new LinkedHashMap<>();
+
+        for (int pickNumber = 1; pickNumber <= getTotalPicks(); pickNumber++) {
+            UserInfo user = getUser(pickNumber);
+            pickMap.put(pickNumber, UserInfo.builder()
+                    .userId(user.getUserId())
+                    .userName(user.getUserName())
+                    .email(user.getEmail())
+                    .pickNumber(pickNumber)
+                    .build());
+        }
+        return Collections.unmodifiableMap(pickMap);
+    }
+
+    private boolean isReversed(int round) {
+        switch (draftStyle) {
+            case LINEAR:
+                return false;
+            case THIRD_ROUND_REVERSAL:
+                // rounds two and three both run backwards, then it snakes again
+                return round == 1 || (round > 1 && round % 2 == 0);
+            default:
+                return round % 2 == 1;
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package crocker.golf.bestball.domain.game.draft;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Builder
+public class DraftPick {
+
+    private UUID draftId;
+    private Integer pickNumber;
+    private UUID userId;
+    private UUID playerId;
+    private LocalDateTime pickedAt;
+    // set by the client and kept the same across retries, null for picks made by the clock
+    private UUID requestId;
+}
@@ -0,0 +1,28 @@
+package crocker.golf.bestball.domain.game.draft;
+
+import crocker.golf.bestball.domain.enums.game.DraftState;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// what subscribers get per pick instead of the whole draft. the sequence is the pick number, so a snapshot at
+// currentPick n has seen every event up to n - 1
+@Getter
+@Builder
+public class DraftPickEvent {
+
+    private UUID draftId;
+    private Integer sequence;
+    // lets the client that made the pick match it to its request
+    private UUID requestId;
+    private UUID userId;
+    private UUID teamId;
+    private UUID playerId;
+    private String playerName;
+    private Integer playerRank;
+    private DraftState draftState;
+    // when the next pick is made for its owner, null once the draft is complete
+    private LocalDateTime pickDeadline;
+}
@@ -0,0 +1,29 @@
+package crocker.golf.bestball.domain.game.draft;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import crocker.golf.bestball.domain.enums.game.DraftState;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// the binary form of a DraftPickEvent, written as a positional array in the order below with null for an absent
+// field. ids are sent as indexes into what the draft snapshot already holds, teamSlot into the round one draft
+// order and playerIndex into poolPlayerIds. the draft state is its ordinal
+@Getter
+@Builder
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+@JsonPropertyOrder({"sequence", "teamSlot", "playerIndex", "playerId", "draftState", "pickDeadline"})
+public class DraftPickFrame {
+
+    private Integer sequence;
+    private Integer teamSlot;
+    private Integer playerIndex;
+    // only for a player outside the pool, which has no index
+    private UUID playerId;
+    @JsonFormat(shape = JsonFormat.Shape.NUMBER)
+    private DraftState draftState;
+    // epoch millis
+    private Long pickDeadline;
+}
@@ -0,0 +1,72 @@
+package crocker.golf.bestball.domain.game.draft;
+
+import crocker.golf.bestball.domain.pga.PgaPlayer;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+// shared by every draft of a tournament, each draft only tracks which pool indexes are gone
+public class DraftPool {
+
+    private final UUID tournamentId;
+
+    // rank order, a player's position here is the bit that marks them drafted
+    private final List<PgaPlayer> pgaPlayers;
+    private final List<UUID> playerIds;
+    private final Map<UUID, Integer> indexByPlayerId = new HashMap<>();
+
+    public DraftPool(UUID tournamentId, List<PgaPlayer> pgaPlayers) {
+        this.tournamentId = tournamentId;
+        this.pgaPlayers = Collections.unmodifiableList(pgaPlayers);
+
+        for (int i = 0; i < pgaPlayers.size(); i++) {
+            indexByPlayerId.put(pgaPlayers.get(i).getPlayerId(), i);
+        }
+        // handed to every draft snapshot, so it is built once
+        this.playerIds = pgaPlayers.stream()
+                .map(PgaPlayer::getPlayerId)
+                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+    }
+
+    public UUID getTournamentId() {
+        return tournamentId;
+    }
+
+    public int size() {
+        return pgaPlayers.size();
+    }
+
+    public boolean isEmpty() {
+        return pgaPlayers.isEmpty();
+    }
+
+    public int indexOf(UUID playerId) {
+        return indexByPlayerId.getOrDefault(playerId, -1);
+    }
+
+    public PgaPlayer getPgaPlayer(UUID playerId) {
+        int index = indexOf(playerId);
+        return index < 0 ? null : pgaPlayers.get(index);
+    }
+
+    public PgaPlayer getPgaPlayer(int poolIndex) {
+        return pgaPlayers.get(poolIndex);
+    }
+
+    public List<UUID> getPlayerIds() {
+        return playerIds;
+    }
+
+    public List<PgaPlayer> getAvailablePgaPlayers(BitSet drafted) {
+        return IntStream.range(0, pgaPlayers.size())
+                .filter(index -> !drafted.get(index))
+                .mapToObj(pgaPlayers::get)
+                .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList));
+    }
+}
@@ -0,0 +1,18 @@
+package crocker.golf.bestball.domain.game.draft;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// sent back to the one session whose pick or pick queue was not taken. retryable is false when the draft said no
+// (not their turn, already drafted, not in progress), sending the same request again gets the same answer
+@Getter
+@Builder
+public class DraftRejection {
+
+    private UUID draftId;
+    private UUID requestId;
+    private String reason;
+    private boolean retryable;
+}
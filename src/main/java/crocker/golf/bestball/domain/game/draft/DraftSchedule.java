@@ -8,10 +8,13 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class DraftSchedule {
 
     private UUID draftId;
     private ReleaseStatus releaseStatus;
     private LocalDateTime releaseTime;
+    // the node releasing the draft, its claim lapses at claimedUntil so another node can take over
+    private String claimedBy;
+    private LocalDateTime claimedUntil;
 }
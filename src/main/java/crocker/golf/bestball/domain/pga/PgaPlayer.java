@@ -3,18 +3,16 @@ package crocker.golf.bestball.domain.pga;
 import crocker.golf.bestball.domain.pga.tournament.PlayerRound;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.util.List;
 import java.util.UUID;
 
 @Getter
-@Setter
-@Builder
+@Builder(toBuilder = true)
 public class PgaPlayer {
-    private UUID playerId;
-    private Integer rank;
-    private String playerName;
+    private final UUID playerId;
+    private final Integer rank;
+    private final String playerName;
 
-    List<PlayerRound> rounds;
+    private final List<PlayerRound> rounds;
 }
@@ -6,7 +6,6 @@ import crocker.golf.bestball.domain.enums.pga.TournamentState;
 import crocker.golf.bestball.domain.pga.PgaPlayer;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Setter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -14,23 +13,22 @@ import java.time.ZonedDateTime;
 import java.util.List;
 import java.util.UUID;
 
-@Builder
+@Builder(toBuilder = true)
 @Getter
-@Setter
 public class Tournament {
 
-    private UUID tournamentId;
-    private String name;
-    private TournamentState tournamentState;
-    private Integer season;
+    private final UUID tournamentId;
+    private final String name;
+    private final TournamentState tournamentState;
+    private final Integer season;
 
-    private EventType eventType;
-    private LocalDateTime startDate;
-    private LocalDate endDate;
-    private Status tournamentStatus;
+    private final EventType eventType;
+    private final LocalDateTime startDate;
+    private final LocalDate endDate;
+    private final Status tournamentStatus;
 
-    private List<PgaPlayer> tournamentField;
-    private List<TournamentCourse> tournamentCourses;
-    private List<TournamentRound> tournamentRounds;
+    private final List<PgaPlayer> tournamentField;
+    private final List<TournamentCourse> tournamentCourses;
+    private final List<TournamentRound> tournamentRounds;
 
 }
@@ -0,0 +1,56 @@
+package crocker.golf.bestball.domain.pga.tournament;
+
+import crocker.golf.bestball.domain.enums.pga.TournamentState;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// built once per schedule update and never changed, lookups hand back the lists it already holds
+public class TournamentIndex {
+
+    private static final Comparator<Tournament> BY_START_DATE =
+            Comparator.comparing(Tournament::getStartDate, Comparator.nullsLast(Comparator.naturalOrder()));
+
+    private final Map<TournamentState, List<Tournament>> tournamentsByState = new EnumMap<>(TournamentState.class);
+
+    // not started or in progress, in start date order
+    private final List<Tournament> upcomingTournaments;
+    private final Map<Integer, List<Tournament>> upcomingTournamentsBySeason;
+
+    public TournamentIndex(List<Tournament> tournaments) {
+        List<Tournament> sortedTournaments = tournaments.stream()
+                .sorted(BY_START_DATE)
+                .collect(Collectors.toList());
+
+        for (TournamentState tournamentState : TournamentState.values()) {
+            tournamentsByState.put(tournamentState, sortedTournaments.stream()
+                    .filter(tournament -> tournament.getTournamentState() == tournamentState)
+                    .collect(Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList)));
+        }
+
+        upcomingTournaments = Collections.unmodifiableList(sortedTournaments.stream()
+                .filter(tournament -> tournament.getTournamentState() == TournamentState.NOT_STARTED || tournament.getTournamentState() == TournamentState.IN_PROGRESS)
+                .collect(Collectors.toList()));
+
+        upcomingTournamentsBySeason = Collections.unmodifiableMap(upcomingTournaments.stream()
+                .filter(tournament -> tournament.getSeason() != null)
+                .collect(Collectors.groupingBy(Tournament::getSeason,
+                        Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList))));
+    }
+
+    public List<Tournament> getTournamentsByState(TournamentState tournamentState) {
+        return tournamentsByState.get(tournamentState);
+    }
+
+    public List<Tournament> getUpcomingTournaments(int limit) {
+        return upcomingTournaments.subList(0, Math.min(limit, upcomingTournaments.size()));
+    }
+
+    public List<Tournament> getUpcomingTournamentsBySeason(int season) {
+        return upcomingTournamentsBySeason.getOrDefault(season, Collections.emptyList());
+    }
+}
@@ -6,6 +6,8 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 @Data
 @Builder
 @AllArgsConstructor
@@ -15,4 +17,6 @@ public class RequestDto {
     private String draftId;
     private String gameId;
     private String inviteEmail;
+    private List<String> playerIds;
+    private String requestId;
 }
@@ -0,0 +1,12 @@
+package crocker.golf.bestball.domain.view;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Builder
+@Getter
+public class SerializedView {
+
+    private final String etag;
+    private final byte[] json;
+}
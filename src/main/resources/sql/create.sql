@@ -4,11 +4,17 @@ DROP TABLE IF EXISTS USER_CREDENTIALS;
 DROP TABLE IF EXISTS WORLD_RANKINGS;
 DROP TABLE IF EXISTS SEASON_SCHEDULE;
 DROP TABLE IF EXISTS GAMES;
+DROP TABLE IF EXISTS CURRENT_GAMES;
 DROP TABLE IF EXISTS TEAMS;
 DROP TABLE IF EXISTS DRAFTS;
+DROP TABLE IF EXISTS CURRENT_DRAFTS;
 DROP TABLE IF EXISTS DRAFT_SCHEDULES;
-DROP TABLE IF EXISTS DRAFT_PGA_PLAYERS;
+DROP TABLE IF EXISTS TOURNAMENT_DRAFT_POOLS;
+DROP TABLE IF EXISTS DRAFT_POOLS;
 DROP TABLE IF EXISTS DRAFT_ORDER;
+DROP TABLE IF EXISTS DRAFT_PICKS;
+DROP TABLE IF EXISTS DRAFT_PICK_QUEUES;
+DROP TABLE IF EXISTS DRAFT_ARCHIVE;
 DROP TABLE IF EXISTS TOURNAMENT_FIELD;
 DROP TABLE IF EXISTS TOURNAMENT_COURSES;
 DROP TABLE IF EXISTS TOURNAMENT_ROUNDS;
@@ -54,6 +60,17 @@ CREATE TABLE GAMES (
     PRIMARY KEY (GAME_ID, GAME_VERSION)
 );
 
+--POINTS AT THE LATEST GAMES VERSION, WRITTEN IN THE SAME TRANSACTION AS EACH NEW VERSION
+CREATE TABLE CURRENT_GAMES (
+    GAME_ID                 UUID PRIMARY KEY    NOT NULL,
+    DRAFT_ID                UUID                NOT NULL,
+    GAME_STATE              VARCHAR(255)        NOT NULL,
+    GAME_VERSION            NUMERIC             NOT NULL
+);
+
+CREATE INDEX CURRENT_GAMES_DRAFT_ID ON CURRENT_GAMES (DRAFT_ID);
+CREATE INDEX CURRENT_GAMES_GAME_STATE ON CURRENT_GAMES (GAME_STATE);
+
 CREATE TABLE TEAMS (
     TEAM_ID                 UUID                NOT NULL,
     USER_ID                 UUID                NOT NULL,
@@ -77,28 +94,45 @@ CREATE TABLE DRAFTS (
     DRAFT_STATE             VARCHAR(100)        NOT NULL,
     DRAFT_TIME              TIMESTAMP           NOT NULL,
     CURRENT_PICK            NUMERIC             NOT NULL,
+    DRAFT_STYLE             VARCHAR(100)        NOT NULL,
+    ROUNDS                  NUMERIC             NOT NULL,
     PRIMARY KEY (DRAFT_ID, DRAFT_VERSION)
 );
 
+--POINTS AT THE LATEST DRAFTS VERSION, WRITTEN IN THE SAME TRANSACTION AS EACH NEW VERSION
+CREATE TABLE CURRENT_DRAFTS (
+    DRAFT_ID                UUID PRIMARY KEY    NOT NULL,
+    DRAFT_VERSION           NUMERIC             NOT NULL
+);
+
 CREATE TABLE DRAFT_SCHEDULES (
     DRAFT_ID                UUID PRIMARY KEY    NOT NULL,
     RELEASE_STATUS          VARCHAR(100)        NOT NULL,
-    RELEASE_TIME            TIMESTAMP           NOT NULL
+    RELEASE_TIME            TIMESTAMP           NOT NULL,
+    CLAIMED_BY              VARCHAR(100),
+    CLAIMED_UNTIL           TIMESTAMP
 );
 
---TODO: TABLE DRAFT_PGA_PLAYERS SHOULD BE HAVE ITS ENTRIES DELETED WHEN DRAFT_STATUS = COMPLETE
---RUN SCHEDULED JOB TO CLEAN UP TABLE
-CREATE TABLE DRAFT_PGA_PLAYERS (
-    DRAFT_ID                UUID                NOT NULL,
+--DRAFT SCHEDULES ARE CLAIMED BY ONE NODE AT A TIME
+CREATE INDEX DRAFT_SCHEDULES_DUE ON DRAFT_SCHEDULES (RELEASE_TIME) WHERE RELEASE_STATUS <> 'RELEASED';
+
+--ONE RANK ORDERED POOL PER TOURNAMENT, SHARED BY EVERY DRAFT OF THAT TOURNAMENT
+CREATE TABLE TOURNAMENT_DRAFT_POOLS (
+    TOURNAMENT_ID           UUID                NOT NULL,
+    POOL_INDEX              NUMERIC             NOT NULL,
     PLAYER_ID               UUID                NOT NULL,
     PLAYER_RANK             NUMERIC             NOT NULL,
     PLAYER_NAME             VARCHAR(255)        NOT NULL,
-    DRAFTED                 BOOLEAN             NOT NULL,
-    PRIMARY KEY (DRAFT_ID, PLAYER_ID)
+    PRIMARY KEY (TOURNAMENT_ID, POOL_INDEX)
+);
+
+--BIT N OF DRAFTED IS SET ONCE POOL_INDEX N HAS BEEN PICKED IN THIS DRAFT
+CREATE TABLE DRAFT_POOLS (
+    DRAFT_ID                UUID PRIMARY KEY    NOT NULL,
+    TOURNAMENT_ID           UUID                NOT NULL,
+    DRAFTED                 BYTEA               NOT NULL
 );
 
---TODO: TABLE DRAFT_ORDER SHOULD BE HAVE ITS ENTRIES DELETED WHEN DRAFT_STATUS = COMPLETE
---RUN SCHEDULED JOB TO CLEAN UP TABLE
 CREATE TABLE DRAFT_ORDER (
     DRAFT_ID                UUID                NOT NULL,
     USER_ID                 UUID                NOT NULL,
@@ -108,6 +142,35 @@ CREATE TABLE DRAFT_ORDER (
     PRIMARY KEY (DRAFT_ID, USER_ID, PICK_NUMBER)
 );
 
+--APPEND ONLY LOG OF PICKS, THE SOURCE OF TRUTH FOR A DRAFT. TEAMS, DRAFT_POOLS AND DRAFTS ARE WRITTEN FROM IT
+CREATE TABLE DRAFT_PICKS (
+    DRAFT_ID                UUID                NOT NULL,
+    PICK_NUMBER             NUMERIC             NOT NULL,
+    USER_ID                 UUID                NOT NULL,
+    PLAYER_ID               UUID                NOT NULL,
+    PICKED_AT               TIMESTAMP           NOT NULL,
+    --A RETRIED PICK CARRIES THE SAME REQUEST ID, ONLY ONE OF THEM IS LOGGED. PICKS MADE BY THE CLOCK HAVE NONE
+    REQUEST_ID              UUID,
+    PRIMARY KEY (DRAFT_ID, PICK_NUMBER),
+    UNIQUE (DRAFT_ID, REQUEST_ID)
+);
+
+CREATE TABLE DRAFT_PICK_QUEUES (
+    DRAFT_ID                UUID                NOT NULL,
+    USER_ID                 UUID                NOT NULL,
+    QUEUE_POSITION          NUMERIC             NOT NULL,
+    PLAYER_ID               UUID                NOT NULL,
+    PRIMARY KEY (DRAFT_ID, USER_ID, QUEUE_POSITION)
+);
+
+--DRAFTS OF COMPLETED GAMES HAVE THEIR DRAFT_POOLS AND DRAFT_ORDER ROWS FOLDED IN HERE BY THE ARCHIVE JOB
+CREATE TABLE DRAFT_ARCHIVE (
+    DRAFT_ID                UUID PRIMARY KEY    NOT NULL,
+    PLAYER_POOL             JSONB               NOT NULL,
+    DRAFT_ORDER             JSONB               NOT NULL,
+    ARCHIVED_AT             TIMESTAMP           NOT NULL
+);
+
 CREATE TABLE TOURNAMENT_FIELD (
     TOURNAMENT_ID               UUID                NOT NULL,
     PLAYER_ID                   UUID                NOT NULL,
@@ -132,41 +195,65 @@ CREATE TABLE TOURNAMENT_ROUNDS (
     PRIMARY KEY (TOURNAMENT_ID, ROUND_ID)
 );
 
+--PARTITIONED BY SEASON, PARTITIONS FOR THE CURRENT AND NEXT SEASON ARE CREATED BY THE APP (PartitionScheduler)
 CREATE TABLE PLAYER_ROUNDS (
     PLAYER_ID                   UUID                NOT NULL,
     TOURNAMENT_ID               UUID                NOT NULL,
     ROUND_ID                    UUID                NOT NULL,
+    PGA_SEASON                  NUMERIC             NOT NULL,
     ROUND_NUMBER                NUMERIC             NOT NULL,
     COURSE_ID                   UUID                NOT NULL,
     TO_PAR                      NUMERIC             NOT NULL,
     THRU                        NUMERIC             NOT NULL,
     STROKES                     NUMERIC             NOT NULL,
     SCORES                      BYTEA               NOT NULL,
-    PRIMARY KEY (PLAYER_ID, TOURNAMENT_ID, ROUND_ID)
-);
+    PRIMARY KEY (PLAYER_ID, TOURNAMENT_ID, ROUND_ID, PGA_SEASON)
+) PARTITION BY LIST (PGA_SEASON);
 
 CREATE TABLE TEAM_ROUNDS (
     TEAM_ID                     UUID                NOT NULL,
     GAME_ID                     UUID                NOT NULL,
     ROUND_ID                    UUID                NOT NULL,
     TOURNAMENT_ID               UUID                NOT NULL,
+    PGA_SEASON                  NUMERIC             NOT NULL,
     ROUND_NUMBER                NUMERIC             NOT NULL,
     TO_PAR                      NUMERIC             NOT NULL,
     STROKES                     NUMERIC             NOT NULL,
     FRONT_NINE                  NUMERIC             NOT NULL,
     BACK_NINE                   NUMERIC             NOT NULL,
     SCORES                      BYTEA               NOT NULL,
-    PRIMARY KEY (TEAM_ID, GAME_ID, ROUND_ID)
-);
+    PRIMARY KEY (TEAM_ID, GAME_ID, ROUND_ID, PGA_SEASON)
+) PARTITION BY LIST (PGA_SEASON);
+
+CREATE INDEX PLAYER_ROUNDS_TOURNAMENT_ID ON PLAYER_ROUNDS (TOURNAMENT_ID);
+CREATE INDEX TEAM_ROUNDS_GAME_ID ON TEAM_ROUNDS (GAME_ID);
+
+--EXISTING UNPARTITIONED ROUND TABLES ARE MIGRATED BY sql/migrate/01_partition_round_tables.sql
+
+--EXISTING GAMES AND DRAFTS GET THEIR CURRENT VERSION POINTERS FROM sql/migrate/00_current_versions.sql
+
+--DRAFT_PGA_PLAYERS IS REPLACED BY TOURNAMENT_DRAFT_POOLS AND DRAFT_POOLS, MIGRATED BY sql/migrate/02_draft_pools.sql
+
+--EXISTING DRAFT_SCHEDULES GET THEIR CLAIM COLUMNS FROM sql/migrate/05_draft_schedule_claims.sql
+
+--EXISTING DRAFTS GET DRAFT_STYLE AND ROUNDS FROM sql/migrate/04_draft_style_rounds.sql
+
+--DRAFTS ALREADY IN PROGRESS HAVE THEIR PICK LOG WRITTEN BY sql/migrate/03_draft_picks.sql
 
 TRUNCATE TABLE WORLD_RANKINGS
 TRUNCATE TABLE SEASON_SCHEDULE
 TRUNCATE TABLE GAMES
+TRUNCATE TABLE CURRENT_GAMES
 TRUNCATE TABLE TEAMS
 TRUNCATE TABLE DRAFTS
+TRUNCATE TABLE CURRENT_DRAFTS
 TRUNCATE TABLE DRAFT_SCHEDULES
-TRUNCATE TABLE DRAFT_PGA_PLAYERS
+TRUNCATE TABLE TOURNAMENT_DRAFT_POOLS
+TRUNCATE TABLE DRAFT_POOLS
 TRUNCATE TABLE DRAFT_ORDER
+TRUNCATE TABLE DRAFT_PICKS
+TRUNCATE TABLE DRAFT_PICK_QUEUES
+TRUNCATE TABLE DRAFT_ARCHIVE
 TRUNCATE TABLE TOURNAMENT_FIELD
 TRUNCATE TABLE TOURNAMENT_COURSES
 TRUNCATE TABLE TOURNAMENT_ROUNDS
@@ -177,11 +264,16 @@ TRUNCATE TABLE PLAYER_ROUNDS;
 
 delete game
 truncate games;
+truncate current_games;
 truncate drafts;
+truncate current_drafts;
 truncate teams;
 truncate draft_schedules;
-truncate DRAFT_PGA_PLAYERS;
+truncate TOURNAMENT_DRAFT_POOLS;
+truncate DRAFT_POOLS;
 truncate DRAFT_ORDER;
+truncate DRAFT_PICKS;
+truncate DRAFT_PICK_QUEUES;
 truncate TEAM_ROUNDS;
  */
 
@@ -0,0 +1,29 @@
+--ADD THE CURRENT VERSION POINTERS TO A DATABASE THAT ONLY HAS GAMES AND DRAFTS, AND POINT THEM AT EACH LATEST VERSION
+--RUN BEFORE THE OTHER MIGRATIONS, THEY FIND GAMES AND DRAFTS THROUGH THESE TABLES
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS CURRENT_GAMES (
+    GAME_ID                 UUID PRIMARY KEY    NOT NULL,
+    DRAFT_ID                UUID                NOT NULL,
+    GAME_STATE              VARCHAR(255)        NOT NULL,
+    GAME_VERSION            NUMERIC             NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS CURRENT_GAMES_DRAFT_ID ON CURRENT_GAMES (DRAFT_ID);
+CREATE INDEX IF NOT EXISTS CURRENT_GAMES_GAME_STATE ON CURRENT_GAMES (GAME_STATE);
+
+CREATE TABLE IF NOT EXISTS CURRENT_DRAFTS (
+    DRAFT_ID                UUID PRIMARY KEY    NOT NULL,
+    DRAFT_VERSION           NUMERIC             NOT NULL
+);
+
+INSERT INTO CURRENT_GAMES (GAME_ID, DRAFT_ID, GAME_STATE, GAME_VERSION)
+SELECT GAMES.GAME_ID, GAMES.DRAFT_ID, GAMES.GAME_STATE, GAMES.GAME_VERSION FROM GAMES
+WHERE (GAME_ID, GAME_VERSION) IN (SELECT GAME_ID, MAX(GAME_VERSION) FROM GAMES GROUP BY GAME_ID)
+ON CONFLICT (GAME_ID) DO NOTHING;
+
+INSERT INTO CURRENT_DRAFTS (DRAFT_ID, DRAFT_VERSION)
+SELECT DRAFT_ID, MAX(DRAFT_VERSION) FROM DRAFTS GROUP BY DRAFT_ID
+ON CONFLICT (DRAFT_ID) DO NOTHING;
+
+COMMIT;
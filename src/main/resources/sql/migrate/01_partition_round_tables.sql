@@ -0,0 +1,64 @@
+--MIGRATE EXISTING UNPARTITIONED ROUND TABLES TO ONE PARTITION PER SEASON FOUND IN THE SCHEDULE
+--RUN IN ONE TRANSACTION, NOTHING WRITES ROUNDS WHILE IT RUNS
+BEGIN;
+
+--1. MOVE THE OLD TABLES ASIDE
+ALTER TABLE PLAYER_ROUNDS RENAME TO PLAYER_ROUNDS_OLD;
+ALTER TABLE TEAM_ROUNDS RENAME TO TEAM_ROUNDS_OLD;
+
+--2. CREATE THE PARTITIONED TABLES
+CREATE TABLE PLAYER_ROUNDS (
+    PLAYER_ID                   UUID                NOT NULL,
+    TOURNAMENT_ID               UUID                NOT NULL,
+    ROUND_ID                    UUID                NOT NULL,
+    PGA_SEASON                  NUMERIC             NOT NULL,
+    ROUND_NUMBER                NUMERIC             NOT NULL,
+    COURSE_ID                   UUID                NOT NULL,
+    TO_PAR                      NUMERIC             NOT NULL,
+    THRU                        NUMERIC             NOT NULL,
+    STROKES                     NUMERIC             NOT NULL,
+    SCORES                      BYTEA               NOT NULL,
+    PRIMARY KEY (PLAYER_ID, TOURNAMENT_ID, ROUND_ID, PGA_SEASON)
+) PARTITION BY LIST (PGA_SEASON);
+
+CREATE TABLE TEAM_ROUNDS (
+    TEAM_ID                     UUID                NOT NULL,
+    GAME_ID                     UUID                NOT NULL,
+    ROUND_ID                    UUID                NOT NULL,
+    TOURNAMENT_ID               UUID                NOT NULL,
+    PGA_SEASON                  NUMERIC             NOT NULL,
+    ROUND_NUMBER                NUMERIC             NOT NULL,
+    TO_PAR                      NUMERIC             NOT NULL,
+    STROKES                     NUMERIC             NOT NULL,
+    FRONT_NINE                  NUMERIC             NOT NULL,
+    BACK_NINE                   NUMERIC             NOT NULL,
+    SCORES                      BYTEA               NOT NULL,
+    PRIMARY KEY (TEAM_ID, GAME_ID, ROUND_ID, PGA_SEASON)
+) PARTITION BY LIST (PGA_SEASON);
+
+CREATE INDEX PLAYER_ROUNDS_TOURNAMENT_ID ON PLAYER_ROUNDS (TOURNAMENT_ID);
+CREATE INDEX TEAM_ROUNDS_GAME_ID ON TEAM_ROUNDS (GAME_ID);
+
+--3. ONE PARTITION PER SEASON, THE APP (PartitionScheduler) KEEPS THE CURRENT AND NEXT ONES FROM HERE ON
+DO $$
+DECLARE SEASON NUMERIC;
+BEGIN
+    FOR SEASON IN SELECT DISTINCT PGA_SEASON FROM SEASON_SCHEDULE LOOP
+        EXECUTE format('CREATE TABLE IF NOT EXISTS PLAYER_ROUNDS_%s PARTITION OF PLAYER_ROUNDS FOR VALUES IN (%s)', SEASON, SEASON);
+        EXECUTE format('CREATE TABLE IF NOT EXISTS TEAM_ROUNDS_%s PARTITION OF TEAM_ROUNDS FOR VALUES IN (%s)', SEASON, SEASON);
+    END LOOP;
+END $$;
+
+--4. COPY THE ROUNDS ACROSS, TAKING EACH ROUND'S SEASON FROM ITS TOURNAMENT
+INSERT INTO PLAYER_ROUNDS SELECT PR.PLAYER_ID, PR.TOURNAMENT_ID, PR.ROUND_ID, SS.PGA_SEASON, PR.ROUND_NUMBER, PR.COURSE_ID,
+    PR.TO_PAR, PR.THRU, PR.STROKES, PR.SCORES
+    FROM PLAYER_ROUNDS_OLD PR INNER JOIN SEASON_SCHEDULE SS ON PR.TOURNAMENT_ID = SS.TOURNAMENT_ID;
+INSERT INTO TEAM_ROUNDS SELECT TR.TEAM_ID, TR.GAME_ID, TR.ROUND_ID, TR.TOURNAMENT_ID, SS.PGA_SEASON, TR.ROUND_NUMBER,
+    TR.TO_PAR, TR.STROKES, TR.FRONT_NINE, TR.BACK_NINE, TR.SCORES
+    FROM TEAM_ROUNDS_OLD TR INNER JOIN SEASON_SCHEDULE SS ON TR.TOURNAMENT_ID = SS.TOURNAMENT_ID;
+
+--5. DROP THE OLD TABLES
+DROP TABLE PLAYER_ROUNDS_OLD;
+DROP TABLE TEAM_ROUNDS_OLD;
+
+COMMIT;
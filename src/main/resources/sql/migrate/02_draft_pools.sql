@@ -0,0 +1,44 @@
+--MOVE DRAFTS STILL ON DRAFT_PGA_PLAYERS ONTO TOURNAMENT_DRAFT_POOLS AND DRAFT_POOLS, THEN DROP IT
+--ARCHIVE COMPLETE DRAFTS FIRST. RUN IN ONE TRANSACTION WITH NO DRAFT IN PROGRESS MAKING PICKS
+BEGIN;
+
+--1. THE TOURNAMENT OF EVERY DRAFT
+CREATE TEMPORARY TABLE DRAFT_TOURNAMENTS ON COMMIT DROP AS
+SELECT DISTINCT CURRENT_GAMES.DRAFT_ID, GAMES.TOURNAMENT_ID FROM CURRENT_GAMES
+INNER JOIN GAMES ON GAMES.GAME_ID = CURRENT_GAMES.GAME_ID AND GAMES.GAME_VERSION = CURRENT_GAMES.GAME_VERSION;
+
+--2. ONE POOL PER TOURNAMENT WITHOUT ONE, EVERY PLAYER ITS DRAFTS HELD IN RANK ORDER
+INSERT INTO TOURNAMENT_DRAFT_POOLS (TOURNAMENT_ID, POOL_INDEX, PLAYER_ID, PLAYER_RANK, PLAYER_NAME)
+SELECT TOURNAMENT_ID, ROW_NUMBER() OVER (PARTITION BY TOURNAMENT_ID ORDER BY PLAYER_RANK, PLAYER_ID) - 1, PLAYER_ID, PLAYER_RANK, PLAYER_NAME
+FROM (
+    SELECT DISTINCT ON (DT.TOURNAMENT_ID, DPP.PLAYER_ID) DT.TOURNAMENT_ID, DPP.PLAYER_ID, DPP.PLAYER_RANK, DPP.PLAYER_NAME
+    FROM DRAFT_PGA_PLAYERS DPP INNER JOIN DRAFT_TOURNAMENTS DT ON DT.DRAFT_ID = DPP.DRAFT_ID
+    WHERE DT.TOURNAMENT_ID NOT IN (SELECT TOURNAMENT_ID FROM TOURNAMENT_DRAFT_POOLS)
+    ORDER BY DT.TOURNAMENT_ID, DPP.PLAYER_ID, DPP.PLAYER_RANK
+) PLAYERS;
+
+--3. A BITSET PER DRAFT SIZED TO ITS POOL, THE SAME (POOL SIZE + 7) / 8 BYTES THE APP WRITES
+INSERT INTO DRAFT_POOLS (DRAFT_ID, TOURNAMENT_ID, DRAFTED)
+SELECT DT.DRAFT_ID, DT.TOURNAMENT_ID, decode(repeat('00', ((COUNT(TDP.POOL_INDEX) + 7) / 8)::INT), 'hex')
+FROM DRAFT_TOURNAMENTS DT INNER JOIN TOURNAMENT_DRAFT_POOLS TDP ON TDP.TOURNAMENT_ID = DT.TOURNAMENT_ID
+WHERE DT.DRAFT_ID IN (SELECT DRAFT_ID FROM DRAFT_PGA_PLAYERS)
+AND DT.DRAFT_ID NOT IN (SELECT DRAFT_ID FROM DRAFT_POOLS)
+GROUP BY DT.DRAFT_ID, DT.TOURNAMENT_ID;
+
+--4. SET THE BIT OF EVERY PLAYER A DRAFT HAD ALREADY TAKEN
+DO $$
+DECLARE DRAFTED_PLAYER RECORD;
+BEGIN
+    FOR DRAFTED_PLAYER IN SELECT DPP.DRAFT_ID, TDP.POOL_INDEX FROM DRAFT_PGA_PLAYERS DPP
+            INNER JOIN DRAFT_TOURNAMENTS DT ON DT.DRAFT_ID = DPP.DRAFT_ID
+            INNER JOIN TOURNAMENT_DRAFT_POOLS TDP ON TDP.TOURNAMENT_ID = DT.TOURNAMENT_ID AND TDP.PLAYER_ID = DPP.PLAYER_ID
+            WHERE DPP.DRAFTED LOOP
+        UPDATE DRAFT_POOLS SET DRAFTED = set_bit(DRAFTED, DRAFTED_PLAYER.POOL_INDEX::INT, 1)
+        WHERE DRAFT_ID = DRAFTED_PLAYER.DRAFT_ID;
+    END LOOP;
+END $$;
+
+--5. DROP THE OLD TABLE
+DROP TABLE DRAFT_PGA_PLAYERS;
+
+COMMIT;
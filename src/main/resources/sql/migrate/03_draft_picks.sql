@@ -0,0 +1,35 @@
+--WRITE THE PICK LOG FOR DRAFTS THAT WERE ALREADY IN PROGRESS BEFORE DRAFT_PICKS EXISTED, FROM THE PICKS THEIR TEAMS HOLD
+--DRAFT_ORDER STILL HAS A ROW PER PICK FOR THESE DRAFTS, A USER'S NTH PICK IS THE NTH GOLFER ON THEIR TEAM.
+--THE PICKS ARE STAMPED WITH THE MIGRATION TIME SO THE PICK ON THE CLOCK GETS A FULL CLOCK ONCE THE ROOM LOADS
+BEGIN;
+
+INSERT INTO DRAFT_PICKS (DRAFT_ID, PICK_NUMBER, USER_ID, PLAYER_ID, PICKED_AT)
+SELECT PICKS.DRAFT_ID, PICKS.PICK_NUMBER, PICKS.USER_ID, PICKS.PLAYER_ID, NOW()
+FROM (
+    SELECT ORD.DRAFT_ID, ORD.PICK_NUMBER, ORD.USER_ID,
+        CASE ROW_NUMBER() OVER (PARTITION BY ORD.DRAFT_ID, ORD.USER_ID ORDER BY ORD.PICK_NUMBER)
+            WHEN 1 THEN TEAMS.PLAYER_ONE_ID
+            WHEN 2 THEN TEAMS.PLAYER_TWO_ID
+            WHEN 3 THEN TEAMS.PLAYER_THREE_ID
+            WHEN 4 THEN TEAMS.PLAYER_FOUR_ID
+        END AS PLAYER_ID
+    FROM DRAFT_ORDER ORD
+    INNER JOIN CURRENT_DRAFTS ON CURRENT_DRAFTS.DRAFT_ID = ORD.DRAFT_ID
+    INNER JOIN DRAFTS ON DRAFTS.DRAFT_ID = CURRENT_DRAFTS.DRAFT_ID AND DRAFTS.DRAFT_VERSION = CURRENT_DRAFTS.DRAFT_VERSION
+    INNER JOIN TEAMS ON TEAMS.DRAFT_ID = ORD.DRAFT_ID AND TEAMS.USER_ID = ORD.USER_ID
+    WHERE DRAFTS.DRAFT_STATE = 'IN_PROGRESS'
+    AND ORD.PICK_NUMBER < DRAFTS.CURRENT_PICK
+    AND ORD.DRAFT_ID NOT IN (SELECT DRAFT_ID FROM DRAFT_PICKS)
+) PICKS
+WHERE PICKS.PLAYER_ID IS NOT NULL;
+
+--ANY DRAFT LISTED HERE IS MISSING PICKS FROM ITS TEAMS AND WILL NOT LOAD A ROOM UNTIL THEY ARE LOGGED BY HAND
+SELECT DRAFTS.DRAFT_ID, DRAFTS.CURRENT_PICK, COUNT(DRAFT_PICKS.PICK_NUMBER) AS LOGGED_PICKS
+FROM CURRENT_DRAFTS
+INNER JOIN DRAFTS ON DRAFTS.DRAFT_ID = CURRENT_DRAFTS.DRAFT_ID AND DRAFTS.DRAFT_VERSION = CURRENT_DRAFTS.DRAFT_VERSION
+LEFT JOIN DRAFT_PICKS ON DRAFT_PICKS.DRAFT_ID = DRAFTS.DRAFT_ID
+WHERE DRAFTS.DRAFT_STATE = 'IN_PROGRESS'
+GROUP BY DRAFTS.DRAFT_ID, DRAFTS.CURRENT_PICK
+HAVING COUNT(DRAFT_PICKS.PICK_NUMBER) < DRAFTS.CURRENT_PICK - 1;
+
+COMMIT;
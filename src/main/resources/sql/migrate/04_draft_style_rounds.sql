@@ -0,0 +1,8 @@
+--GIVE EXISTING DRAFTS A STYLE AND ROUND COUNT. THEY WERE ALL FOUR ROUND SNAKES
+--DRAFT_ORDER ONLY KEEPS THE ROUND ONE ORDER FROM HERE ON, OLDER ROWS PER PICK ARE STILL READ BY DraftLoader
+BEGIN;
+
+ALTER TABLE DRAFTS ADD COLUMN IF NOT EXISTS DRAFT_STYLE VARCHAR(100) NOT NULL DEFAULT 'SNAKE';
+ALTER TABLE DRAFTS ADD COLUMN IF NOT EXISTS ROUNDS NUMERIC NOT NULL DEFAULT 4;
+
+COMMIT;
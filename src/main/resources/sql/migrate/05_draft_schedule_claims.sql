@@ -0,0 +1,8 @@
+--LET ONE NODE AT A TIME CLAIM A DRAFT SCHEDULE. UNCLAIMED ROWS ARE FREE TO ANY NODE
+BEGIN;
+
+ALTER TABLE DRAFT_SCHEDULES ADD COLUMN IF NOT EXISTS CLAIMED_BY VARCHAR(100);
+ALTER TABLE DRAFT_SCHEDULES ADD COLUMN IF NOT EXISTS CLAIMED_UNTIL TIMESTAMP;
+CREATE INDEX IF NOT EXISTS DRAFT_SCHEDULES_DUE ON DRAFT_SCHEDULES (RELEASE_TIME) WHERE RELEASE_STATUS <> 'RELEASED';
+
+COMMIT;
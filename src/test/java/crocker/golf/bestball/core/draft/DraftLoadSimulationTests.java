@@ -0,0 +1,436 @@
+package crocker.golf.bestball.core.draft;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import crocker.golf.bestball.core.dao.DraftDao;
+import crocker.golf.bestball.core.dao.GameDao;
+import crocker.golf.bestball.core.dao.PgaDao;
+import crocker.golf.bestball.core.dao.TeamDao;
+import crocker.golf.bestball.core.dao.UserDao;
+import crocker.golf.bestball.core.rest.SportsApiService;
+import crocker.golf.bestball.core.util.TimeHelper;
+import crocker.golf.bestball.domain.enums.game.DraftState;
+import crocker.golf.bestball.domain.enums.game.DraftStyle;
+import crocker.golf.bestball.domain.enums.game.GameState;
+import crocker.golf.bestball.domain.enums.game.TeamRole;
+import crocker.golf.bestball.domain.game.Game;
+import crocker.golf.bestball.domain.game.Team;
+import crocker.golf.bestball.domain.game.draft.Draft;
+import crocker.golf.bestball.domain.game.draft.DraftOrder;
+import crocker.golf.bestball.domain.game.draft.DraftPick;
+import crocker.golf.bestball.domain.pga.PgaPlayer;
+import crocker.golf.bestball.domain.pga.tournament.Tournament;
+import crocker.golf.bestball.domain.user.RequestDto;
+import crocker.golf.bestball.domain.user.UserCredentials;
+import crocker.golf.bestball.domain.user.UserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.invocation.InvocationOnMock;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.web.server.LocalServerPort;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+// runs many drafts at once through real stomp sessions and reports how long picks take to reach every client.
+// it is skipped in a normal build, run it with
+// mvn test -Dtest=DraftLoadSimulationTests -Ddraft.load.enabled=true -Ddraft.load.drafts=50 -Ddraft.load.clients=10 -Ddraft.load.rate=5
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        // picks are driven by the clients, the clock should never fire during a run
+        "golf.draft.pick.clock=3600000"
+})
+@ActiveProfiles("local")
+@EnabledIfSystemProperty(named = "draft.load.enabled", matches = "true")
+class DraftLoadSimulationTests {
+
+    private static final Logger logger = LoggerFactory.getLogger(DraftLoadSimulationTests.class);
+
+    private static final int DRAFTS = Integer.getInteger("draft.load.drafts", 20);
+    private static final int CLIENTS = Integer.getInteger("draft.load.clients", 8);
+    // picks a second in each draft
+    private static final int PICK_RATE = Integer.getInteger("draft.load.rate", 4);
+    private static final long TIMEOUT_SECONDS = Long.getLong("draft.load.timeout", 300L);
+    // subscriptions are not acknowledged by the simple broker, give them a moment before the first pick
+    private static final long SETTLE_MILLIS = Long.getLong("draft.load.settle", 2000L);
+
+    private static final int ROUNDS = 4;
+    private static final int POOL_SIZE = Math.max(150, CLIENTS * ROUNDS);
+
+    @LocalServerPort
+    private int port;
+
+    // the schema is postgres only, so the draft tables are kept in memory behind the daos
+    @MockBean
+    private DraftDao draftDao;
+
+    @MockBean
+    private GameDao gameDao;
+
+    @MockBean
+    private TeamDao teamDao;
+
+    @MockBean
+    private UserDao userDao;
+
+    @MockBean
+    private PgaDao pgaDao;
+
+    // stands in for the sports apis so a run never leaves the process
+    @MockBean
+    private SportsApiService sportsApiService;
+
+    private final UUID tournamentId = UUID.randomUUID();
+    private final List<PgaPlayer> pool = new ArrayList<>();
+    private final Map<UUID, SimulatedDraft> drafts = new ConcurrentHashMap<>();
+    private final Map<String, UserCredentials> users = new ConcurrentHashMap<>();
+
+    private WebSocketStompClient stompClient;
+
+    @BeforeEach
+    void setUp() {
+        for (int rank = 1; rank <= POOL_SIZE; rank++) {
+            pool.add(PgaPlayer.builder()
+                    .playerId(UUID.randomUUID())
+                    .rank(rank)
+                    .playerName("Player " + rank)
+                    .build());
+        }
+
+        for (int i = 0; i < DRAFTS; i++) {
+            SimulatedDraft draft = new SimulatedDraft(i);
+            drafts.put(draft.draftId, draft);
+        }
+
+        when(draftDao.getLatestDraftById(any())).thenAnswer(call -> draftOf(call).draft);
+        when(draftDao.getDraftPoolByTournamentId(tournamentId)).thenReturn(pool);
+        when(draftDao.getDraftOrderByDraftId(any())).thenAnswer(call -> draftOf(call).baseOrder);
+        when(draftDao.getDraftPicksByDraftId(any())).thenAnswer(call -> draftOf(call).getPicks());
+        when(draftDao.getLatestPickNumber(any())).thenAnswer(call -> draftOf(call).getPicks().size());
+        when(draftDao.getDraftedPlayersByDraftId(any())).thenAnswer(call -> draftOf(call).getDrafted());
+        when(draftDao.draftPlayer(any(), anyInt())).thenAnswer(call -> draftOf(call).draftPlayer(call.getArgument(1)));
+        doAnswer(call -> {
+            Draft draft = call.getArgument(0);
+            drafts.get(draft.getDraftId()).draft = draft;
+            return null;
+        }).when(draftDao).saveDraft(any());
+        doAnswer(call -> {
+            DraftPick draftPick = call.getArgument(0);
+            drafts.get(draftPick.getDraftId()).appendPick(draftPick);
+            return null;
+        }).when(draftDao).saveDraftPick(any());
+
+        when(gameDao.getLatestGameByDraftId(any())).thenAnswer(call -> draftOf(call).game);
+        when(teamDao.getTeamsByDraftId(any())).thenAnswer(call -> draftOf(call).teams);
+        when(userDao.findByEmail(anyString())).thenAnswer(call -> users.get(call.<String>getArgument(0)));
+
+        MappingJackson2MessageConverter messageConverter = new MappingJackson2MessageConverter();
+        messageConverter.getObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        stompClient = new WebSocketStompClient(new StandardWebSocketClient());
+        stompClient.setMessageConverter(messageConverter);
+    }
+
+    @AfterEach
+    void tearDown() {
+        drafts.values().forEach(SimulatedDraft::disconnect);
+    }
+
+    @Test
+    void simulateDrafts() throws Exception {
+        String url = "ws://localhost:" + port + "/connect/draft";
+
+        for (SimulatedDraft draft : drafts.values()) {
+            draft.connect(url);
+        }
+        Thread.sleep(SETTLE_MILLIS);
+
+        ScheduledExecutorService drivers = Executors.newScheduledThreadPool(Runtime.getRuntime().availableProcessors());
+        long started = System.nanoTime();
+        long deadline = started + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+
+        drafts.values().forEach(draft ->
+                drivers.scheduleAtFixedRate(draft::tick, 0, TimeUnit.SECONDS.toMicros(1) / PICK_RATE, TimeUnit.MICROSECONDS));
+
+        boolean finished = true;
+        for (SimulatedDraft draft : drafts.values()) {
+            finished &= draft.complete.await(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        }
+        long elapsed = System.nanoTime() - started;
+        drivers.shutdownNow();
+
+        report(elapsed);
+
+        Assertions.assertTrue(finished, "Not every client saw every draft finish within " + TIMEOUT_SECONDS + "s");
+        drafts.values().forEach(SimulatedDraft::verify);
+    }
+
+    private void report(long elapsedNanos) {
+        long[] latencies = drafts.values().stream()
+                .flatMap(draft -> draft.latencies.stream())
+                .mapToLong(Long::longValue)
+                .sorted()
+                .toArray();
+        int picks = drafts.values().stream().mapToInt(draft -> draft.getPicks().size()).sum();
+        double seconds = elapsedNanos / 1e9;
+
+        logger.info("{} drafts x {} clients at {} picks/s: {} picks and {} deliveries in {} s",
+                DRAFTS, CLIENTS, PICK_RATE, picks, latencies.length, String.format("%.2f", seconds));
+        logger.info("Throughput {} picks/s, {} deliveries/s",
+                String.format("%.1f", picks / seconds), String.format("%.1f", latencies.length / seconds));
+        logger.info("Pick to broadcast latency p50 {} ms, p95 {} ms, p99 {} ms, max {} ms",
+                percentile(latencies, 0.50), percentile(latencies, 0.95), percentile(latencies, 0.99), percentile(latencies, 1.0));
+    }
+
+    private String percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return "-";
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return String.format("%.2f", sorted[Math.max(0, index)] / 1e6);
+    }
+
+    private SimulatedDraft draftOf(InvocationOnMock call) {
+        return drafts.get(call.<UUID>getArgument(0));
+    }
+
+    // one draft, its rows as the daos would hold them, and a client per team
+    private class SimulatedDraft {
+
+        private final UUID draftId = UUID.randomUUID();
+        private final List<UserInfo> baseOrder = new ArrayList<>();
+        private final List<Team> teams = new ArrayList<>();
+        private final DraftOrder draftOrder;
+        private final Game game;
+        private final int totalPicks;
+
+        private volatile Draft draft;
+        private final List<DraftPick> picks = new ArrayList<>();
+        private final BitSet drafted = new BitSet();
+
+        private final List<StompSession> sessions = new ArrayList<>();
+        private final List<List<Integer>> received = new ArrayList<>();
+        private final List<Set<UUID>> receivedPlayers = new ArrayList<>();
+        private final Map<Integer, UUID> broadcastPlayers = new ConcurrentHashMap<>();
+        private final Map<Integer, Long> sentAt = new ConcurrentHashMap<>();
+        private final Queue<Long> latencies = new ConcurrentLinkedQueue<>();
+        // the driver paces itself off the first client, the next pick goes once it has seen the last one
+        private final AtomicInteger lastSeen = new AtomicInteger();
+        private final CountDownLatch complete = new CountDownLatch(CLIENTS);
+        private int nextPick = 1;
+
+        private SimulatedDraft(int draftNumber) {
+            UUID gameId = UUID.randomUUID();
+
+            for (int slot = 0; slot < CLIENTS; slot++) {
+                String email = "load-" + draftNumber + "-" + slot + "@bestball.test";
+                UserCredentials user = UserCredentials.builder()
+                        .userId(UUID.randomUUID())
+                        .userName("load-" + draftNumber + "-" + slot)
+                        .email(email)
+                        .enabled(true)
+                        .build();
+                users.put(email, user);
+
+                baseOrder.add(UserInfo.builder()
+                        .userId(user.getUserId())
+                        .userName(user.getUserName())
+                        .email(email)
+                        .pickNumber(slot + 1)
+                        .build());
+                teams.add(Team.builder()
+                        .teamId(UUID.randomUUID())
+                        .userId(user.getUserId())
+                        .draftId(draftId)
+                        .gameId(gameId)
+                        .tournamentId(tournamentId)
+                        .teamRole(slot == 0 ? TeamRole.CREATOR : TeamRole.PARTICIPANT)
+                        .draftPick(slot + 1)
+                        .build());
+                received.add(Collections.synchronizedList(new ArrayList<>()));
+                receivedPlayers.add(ConcurrentHashMap.newKeySet());
+            }
+
+            draftOrder = new DraftOrder(baseOrder, DraftStyle.SNAKE, ROUNDS);
+            totalPicks = draftOrder.getTotalPicks();
+
+            draft = Draft.builder()
+                    .draftId(draftId)
+                    .draftState(DraftState.IN_PROGRESS)
+                    .draftVersion(1)
+                    .startTime(TimeHelper.getCurrentTime())
+                    .currentPick(1)
+                    .draftStyle(DraftStyle.SNAKE)
+                    .rounds(ROUNDS)
+                    .build();
+            game = Game.builder()
+                    .gameId(gameId)
+                    .gameState(GameState.NOT_STARTED)
+                    .gameVersion(1)
+                    .draftId(draftId)
+                    .tournament(Tournament.builder().tournamentId(tournamentId).build())
+                    .numPlayers(CLIENTS)
+                    .build();
+        }
+
+        private synchronized List<DraftPick> getPicks() {
+            return new ArrayList<>(picks);
+        }
+
+        private synchronized BitSet getDrafted() {
+            return (BitSet) drafted.clone();
+        }
+
+        private synchronized BitSet draftPlayer(int poolIndex) {
+            drafted.set(poolIndex);
+            return (BitSet) drafted.clone();
+        }
+
+        // the pick log's primary key and unique request id
+        private synchronized void appendPick(DraftPick draftPick) {
+            boolean requestLogged = draftPick.getRequestId() != null && picks.stream()
+                    .anyMatch(logged -> draftPick.getRequestId().equals(logged.getRequestId()));
+
+            if (draftPick.getPickNumber() <= picks.size() || requestLogged) {
+                throw new DuplicateKeyException("Pick " + draftPick.getPickNumber() + " of draft " + draftId + " already exists");
+            }
+            picks.add(draftPick);
+        }
+
+        private void connect(String url) throws Exception {
+            for (int slot = 0; slot < CLIENTS; slot++) {
+                StompSession session = stompClient.connect(url, new StompSessionHandlerAdapter() {}).get(30, TimeUnit.SECONDS);
+                session.subscribe("/ui/refreshDraft/" + draftId, new PickHandler(slot));
+                sessions.add(session);
+            }
+        }
+
+        private void disconnect() {
+            sessions.stream().filter(StompSession::isConnected).forEach(StompSession::disconnect);
+        }
+
+        // the best player left is always the next in the pool, so every pick is known before it is made
+        private synchronized void tick() {
+            if (nextPick > totalPicks || lastSeen.get() != nextPick - 1) {
+                return;
+            }
+
+            int slot = draftOrder.getSlot(nextPick);
+            UUID playerId = pool.get(nextPick - 1).getPlayerId();
+            RequestDto requestDto = RequestDto.builder()
+                    .email(baseOrder.get(slot).getEmail())
+                    .draftId(draftId.toString())
+                    .requestId(UUID.randomUUID().toString())
+                    .build();
+
+            sentAt.put(nextPick, System.nanoTime());
+            sessions.get(slot).send("/draft/draftPlayer/" + draftId + "/" + playerId, requestDto);
+            nextPick++;
+        }
+
+        private void verify() {
+            List<Integer> expected = IntStream.rangeClosed(1, totalPicks).boxed().collect(Collectors.toList());
+
+            for (int slot = 0; slot < CLIENTS; slot++) {
+                Assertions.assertEquals(expected, received.get(slot), "Client " + slot + " of draft " + draftId + " saw picks out of order");
+                Assertions.assertEquals(totalPicks, receivedPlayers.get(slot).size(), "Client " + slot + " of draft " + draftId + " saw a player drafted twice");
+            }
+
+            List<DraftPick> logged = getPicks();
+            Assertions.assertEquals(totalPicks, logged.size());
+            Assertions.assertEquals(totalPicks, logged.stream().map(DraftPick::getPlayerId).distinct().count());
+
+            for (DraftPick draftPick : logged) {
+                int pickNumber = draftPick.getPickNumber();
+                Assertions.assertEquals(draftOrder.getUser(pickNumber).getUserId(), draftPick.getUserId());
+                Assertions.assertEquals(pool.get(pickNumber - 1).getPlayerId(), draftPick.getPlayerId());
+                Assertions.assertEquals(draftPick.getPlayerId(), broadcastPlayers.get(pickNumber));
+            }
+
+            Assertions.assertEquals(DraftState.COMPLETE, draft.getDraftState());
+        }
+
+        private class PickHandler implements StompFrameHandler {
+
+            private final int slot;
+
+            private PickHandler(int slot) {
+                this.slot = slot;
+            }
+
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return PickMessage.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                long now = System.nanoTime();
+                PickMessage pickMessage = (PickMessage) payload;
+                Long sent = sentAt.get(pickMessage.sequence);
+
+                if (sent != null) {
+                    latencies.add(now - sent);
+                }
+                received.get(slot).add(pickMessage.sequence);
+                receivedPlayers.get(slot).add(pickMessage.playerId);
+
+                // every client has to agree on who went at each pick
+                UUID previous = broadcastPlayers.putIfAbsent(pickMessage.sequence, pickMessage.playerId);
+                if (previous != null && !previous.equals(pickMessage.playerId)) {
+                    logger.error("Clients of draft {} disagree on pick {}: {} and {}", draftId, pickMessage.sequence, previous, pickMessage.playerId);
+                    broadcastPlayers.put(pickMessage.sequence, new UUID(0, 0));
+                }
+
+                if (slot == 0) {
+                    lastSeen.set(pickMessage.sequence);
+                }
+                if (pickMessage.sequence == totalPicks) {
+                    complete.countDown();
+                }
+            }
+        }
+    }
+
+    // the fields of a DraftPickEvent the simulation checks
+    static class PickMessage {
+        public int sequence;
+        public UUID playerId;
+        public DraftState draftState;
+    }
+}
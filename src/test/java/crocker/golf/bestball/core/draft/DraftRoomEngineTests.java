@@ -0,0 +1,225 @@
+package crocker.golf.bestball.core.draft;
+
+import crocker.golf.bestball.core.repository.DraftRepository;
+import crocker.golf.bestball.core.repository.GameRepository;
+import crocker.golf.bestball.core.repository.PgaRepository;
+import crocker.golf.bestball.core.service.game.DraftLoader;
+import crocker.golf.bestball.domain.enums.game.DraftState;
+import crocker.golf.bestball.domain.enums.game.DraftStyle;
+import crocker.golf.bestball.domain.exceptions.game.DraftPickException;
+import crocker.golf.bestball.domain.game.Game;
+import crocker.golf.bestball.domain.game.Team;
+import crocker.golf.bestball.domain.game.draft.Draft;
+import crocker.golf.bestball.domain.game.draft.DraftOrder;
+import crocker.golf.bestball.domain.game.draft.DraftPick;
+import crocker.golf.bestball.domain.game.draft.DraftPickEvent;
+import crocker.golf.bestball.domain.game.draft.DraftPool;
+import crocker.golf.bestball.domain.pga.PgaPlayer;
+import crocker.golf.bestball.domain.pga.tournament.Tournament;
+import crocker.golf.bestball.domain.user.UserInfo;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.dao.DuplicateKeyException;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// a retried pick request has to come back with the pick it made the first time and leave a single row in the log,
+// whether the retry lands on the same node, after the draft has finished or on a node racing the first one
+class DraftRoomEngineTests {
+
+    private static final int TEAMS = 2;
+    private static final int ROUNDS = 1;
+
+    private final UUID draftId = UUID.randomUUID();
+    private final UUID tournamentId = UUID.randomUUID();
+    private final List<UserInfo> baseOrder = new ArrayList<>();
+    private final List<Team> teams = new ArrayList<>();
+    private final List<PgaPlayer> pool = new ArrayList<>();
+    // the pick log with its primary key and unique request id
+    private final List<DraftPick> log = Collections.synchronizedList(new ArrayList<>());
+
+    private final DraftLoader draftLoader = Mockito.mock(DraftLoader.class);
+    private final DraftRepository draftRepository = Mockito.mock(DraftRepository.class);
+    private final GameRepository gameRepository = Mockito.mock(GameRepository.class);
+    private final PgaRepository pgaRepository = Mockito.mock(PgaRepository.class);
+    private final DraftEventPublisher draftEventPublisher = Mockito.mock(DraftEventPublisher.class);
+    private final DraftProjector draftProjector = Mockito.mock(DraftProjector.class);
+
+    private DraftRoomEngine draftRoomEngine;
+
+    @BeforeEach
+    void setUp() {
+        for (int slot = 0; slot < TEAMS; slot++) {
+            UUID userId = UUID.randomUUID();
+            baseOrder.add(UserInfo.builder().userId(userId).userName("user" + slot).pickNumber(slot + 1).build());
+            teams.add(Team.builder().teamId(UUID.randomUUID()).userId(userId).draftId(draftId).build());
+        }
+
+        IntStream.rangeClosed(1, 10).forEach(rank -> pool.add(PgaPlayer.builder()
+                .playerId(UUID.randomUUID())
+                .rank(rank)
+                .playerName("Player " + rank)
+                .build()));
+
+        Game game = Game.builder()
+                .gameId(UUID.randomUUID())
+                .draftId(draftId)
+                .tournament(Tournament.builder().tournamentId(tournamentId).build())
+                .build();
+
+        when(draftRepository.getLatestDraftById(draftId)).thenAnswer(call -> getDraft());
+        when(draftRepository.getDraftPool(tournamentId)).thenReturn(new DraftPool(tournamentId, pool));
+        when(draftRepository.getDraftPicksByDraftId(draftId)).thenAnswer(call -> getLog());
+        when(draftRepository.getLatestPickNumber(draftId)).thenAnswer(call -> getLog().size());
+        when(draftRepository.getPickQueuesByDraftId(draftId)).thenReturn(Collections.emptyMap());
+        doAnswer(call -> {
+            appendPick(call.getArgument(0));
+            return null;
+        }).when(draftRepository).saveDraftPick(any());
+
+        when(gameRepository.getLatestGameByDraftId(draftId)).thenReturn(game);
+        when(draftLoader.loadEnrichedDraft(any())).thenAnswer(call -> call.<Draft>getArgument(0).toBuilder().teams(teams).build());
+        when(draftLoader.loadDraftOrder(any())).thenReturn(new DraftOrder(baseOrder, DraftStyle.SNAKE, ROUNDS));
+
+        // the clock never runs out during a test
+        draftRoomEngine = new DraftRoomEngine(draftLoader, draftRepository, gameRepository, pgaRepository,
+                draftEventPublisher, draftProjector, 2, 3600000, 100, 50);
+        draftRoomEngine.start();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        draftRoomEngine.stop();
+    }
+
+    @Test
+    void retriedRequestGetsTheOriginalPick() throws Exception {
+        UUID requestId = UUID.randomUUID();
+
+        DraftPickEvent first = draftPlayer(0, pool.get(0), requestId);
+        DraftPickEvent retried = draftPlayer(0, pool.get(0), requestId);
+
+        Assertions.assertEquals(1, first.getSequence());
+        Assertions.assertEquals(first.getSequence(), retried.getSequence());
+        Assertions.assertEquals(first.getPlayerId(), retried.getPlayerId());
+        Assertions.assertEquals(1, getLog().size());
+        verify(draftEventPublisher, times(1)).publish(any(), any());
+    }
+
+    @Test
+    void retriedRequestGetsTheOriginalPickAfterTheDraftCompletes() throws Exception {
+        UUID requestId = UUID.randomUUID();
+
+        draftPlayer(0, pool.get(0), UUID.randomUUID());
+        DraftPickEvent last = draftPlayer(1, pool.get(1), requestId);
+        Assertions.assertEquals(DraftState.COMPLETE, last.getDraftState());
+
+        DraftPickEvent retried = draftPlayer(1, pool.get(1), requestId);
+
+        Assertions.assertEquals(TEAMS * ROUNDS, retried.getSequence());
+        Assertions.assertEquals(last.getPlayerId(), retried.getPlayerId());
+        Assertions.assertEquals(DraftState.COMPLETE, retried.getDraftState());
+        Assertions.assertEquals(TEAMS * ROUNDS, getLog().size());
+        verify(draftEventPublisher, times(TEAMS * ROUNDS)).publish(any(), any());
+    }
+
+    @Test
+    void requestLoggedByAnotherNodeIsFoundAfterTheConflict() throws Exception {
+        UUID requestId = UUID.randomUUID();
+        PgaPlayer pgaPlayer = pool.get(0);
+        AtomicBoolean raced = new AtomicBoolean();
+
+        // the room is loaded before the other node logs, so only the unique key tells this node about it
+        Assertions.assertNotNull(draftRoomEngine.loadDraft(draftId).get(5, TimeUnit.SECONDS));
+
+        doAnswer(call -> {
+            DraftPick draftPick = call.getArgument(0);
+
+            if (raced.compareAndSet(false, true)) {
+                appendPick(DraftPick.builder()
+                        .draftId(draftId)
+                        .pickNumber(draftPick.getPickNumber())
+                        .userId(draftPick.getUserId())
+                        .playerId(draftPick.getPlayerId())
+                        .pickedAt(draftPick.getPickedAt())
+                        .requestId(requestId)
+                        .build());
+            }
+            appendPick(draftPick);
+            return null;
+        }).when(draftRepository).saveDraftPick(any());
+
+        DraftPickEvent event = draftPlayer(0, pgaPlayer, requestId);
+
+        Assertions.assertEquals(1, event.getSequence());
+        Assertions.assertEquals(requestId, event.getRequestId());
+        Assertions.assertEquals(pgaPlayer.getPlayerId(), event.getPlayerId());
+        Assertions.assertEquals(1, getLog().size());
+        // the node that logged the pick is the one that broadcasts it
+        verify(draftEventPublisher, never()).publish(any(), any());
+    }
+
+    @Test
+    void requestForADraftNotStartedIsRejectedWithoutReadingTheLog() {
+        when(draftRepository.getLatestDraftById(draftId)).thenReturn(getDraft().toBuilder().draftState(DraftState.NOT_STARTED).build());
+
+        ExecutionException e = Assertions.assertThrows(ExecutionException.class, () -> draftPlayer(0, pool.get(0), UUID.randomUUID()));
+
+        Assertions.assertTrue(e.getCause() instanceof DraftPickException);
+        verify(draftRepository, never()).getDraftPicksByDraftId(draftId);
+    }
+
+    private DraftPickEvent draftPlayer(int slot, PgaPlayer pgaPlayer, UUID requestId) throws Exception {
+        return draftRoomEngine.draftPlayer(draftId, baseOrder.get(slot).getUserId(), pgaPlayer.getPlayerId(), requestId)
+                .get(5, TimeUnit.SECONDS);
+    }
+
+    private void appendPick(DraftPick draftPick) {
+        synchronized (log) {
+            boolean requestLogged = draftPick.getRequestId() != null && log.stream()
+                    .anyMatch(logged -> draftPick.getRequestId().equals(logged.getRequestId()));
+
+            if (draftPick.getPickNumber() <= log.size() || requestLogged) {
+                throw new DuplicateKeyException("Pick " + draftPick.getPickNumber() + " of draft " + draftId + " already exists");
+            }
+            log.add(draftPick);
+        }
+    }
+
+    private List<DraftPick> getLog() {
+        synchronized (log) {
+            return new ArrayList<>(log);
+        }
+    }
+
+    // the draft row as the projector would have left it once the log is written through
+    private Draft getDraft() {
+        int picks = getLog().size();
+
+        return Draft.builder()
+                .draftId(draftId)
+                .draftState(picks >= TEAMS * ROUNDS ? DraftState.COMPLETE : DraftState.IN_PROGRESS)
+                .draftVersion(1 + picks)
+                .currentPick(picks + 1)
+                .draftStyle(DraftStyle.SNAKE)
+                .rounds(ROUNDS)
+                .build();
+    }
+}
@@ -0,0 +1,99 @@
+package crocker.golf.bestball.domain.game.draft;
+
+import crocker.golf.bestball.domain.enums.game.DraftStyle;
+import crocker.golf.bestball.domain.user.UserInfo;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+class DraftOrderTests {
+
+    @Test
+    void snakeReversesEveryOtherRound() {
+        DraftOrder draftOrder = new DraftOrder(users(3), DraftStyle.SNAKE, 4);
+
+        Assertions.assertArrayEquals(new int[]{0, 1, 2, 2, 1, 0, 0, 1, 2, 2, 1, 0}, slots(draftOrder));
+    }
+
+    @Test
+    void linearRepeatsTheFirstRound() {
+        DraftOrder draftOrder = new DraftOrder(users(3), DraftStyle.LINEAR, 4);
+
+        Assertions.assertArrayEquals(new int[]{0, 1, 2, 0, 1, 2, 0, 1, 2, 0, 1, 2}, slots(draftOrder));
+    }
+
+    @Test
+    void thirdRoundReversalRunsRoundsTwoAndThreeBackwards() {
+        DraftOrder draftOrder = new DraftOrder(users(3), DraftStyle.THIRD_ROUND_REVERSAL, 4);
+
+        Assertions.assertArrayEquals(new int[]{0, 1, 2, 2, 1, 0, 2, 1, 0, 0, 1, 2}, slots(draftOrder));
+    }
+
+    @Test
+    void singleTeamOwnsEveryPick() {
+        List<UserInfo> users = users(1);
+        DraftOrder draftOrder = new DraftOrder(users, DraftStyle.SNAKE, 4);
+
+        Assertions.assertEquals(4, draftOrder.getTotalPicks());
+        IntStream.rangeClosed(1, 4).forEach(pickNumber ->
+                Assertions.assertSame(users.get(0), draftOrder.getUser(pickNumber)));
+        Assertions.assertNull(draftOrder.getUser(5));
+    }
+
+    @Test
+    void manyTeamsTurnAtTheRoundEnds() {
+        List<UserInfo> users = users(12);
+        DraftOrder draftOrder = new DraftOrder(users, DraftStyle.SNAKE, 4);
+
+        Assertions.assertEquals(48, draftOrder.getTotalPicks());
+        Assertions.assertSame(users.get(11), draftOrder.getUser(12));
+        Assertions.assertSame(users.get(11), draftOrder.getUser(13));
+        Assertions.assertSame(users.get(0), draftOrder.getUser(24));
+        Assertions.assertSame(users.get(0), draftOrder.getUser(25));
+        Assertions.assertSame(users.get(0), draftOrder.getUser(48));
+    }
+
+    @Test
+    void roundsAreCappedAtFour() {
+        DraftOrder draftOrder = new DraftOrder(users(3), DraftStyle.SNAKE, 6);
+
+        Assertions.assertEquals(DraftOrder.MAX_ROUNDS, draftOrder.getRounds());
+        Assertions.assertEquals(12, draftOrder.getTotalPicks());
+        Assertions.assertNull(draftOrder.getUser(0));
+        Assertions.assertNull(draftOrder.getUser(13));
+    }
+
+    @Test
+    void pickMapMatchesTheWorkedOutOrder() {
+        DraftOrder draftOrder = new DraftOrder(users(5), DraftStyle.THIRD_ROUND_REVERSAL, 4);
+        Map<Integer, UserInfo> pickMap = draftOrder.toPickMap();
+
+        Assertions.assertEquals(20, pickMap.size());
+        pickMap.forEach((pickNumber, user) -> {
+            Assertions.assertEquals(pickNumber, user.getPickNumber());
+            Assertions.assertEquals(draftOrder.getUser(pickNumber).getUserId(), user.getUserId());
+        });
+    }
+
+    private List<UserInfo> users(int teams) {
+        return IntStream.range(0, teams)
+                .mapToObj(index -> UserInfo.builder()
+                        .userId(UUID.randomUUID())
+                        .userName("user" + index)
+                        .email("user" + index + "@bestball.test")
+                        .pickNumber(index + 1)
+                        .build())
+                .collect(Collectors.toList());
+    }
+
+    private int[] slots(DraftOrder draftOrder) {
+        return IntStream.rangeClosed(1, draftOrder.getTotalPicks())
+                .map(draftOrder::getSlot)
+                .toArray();
+    }
+}